@@ -0,0 +1,71 @@
+package com.university.advisorfinder.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Transactions are ordered outside of caching, so cache evictions run inside the transaction
+ * and are deferred by the transaction-aware caches until it commits.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE)
+@EnableTransactionManagement(proxyTargetClass = true, order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    
+    public static final String PUBLIC_LECTURERS = "publicLecturers";
+    public static final String LECTURERS_BY_CATEGORY = "lecturersByCategory";
+    public static final String LECTURERS_BY_DEPARTMENT = "lecturersByDepartment";
+    public static final String LECTURER_CONTACTS = "lecturerContacts";
+    public static final String STUDENT_VERIFICATION = "studentVerification";
+    public static final String RESEARCH_TREE = "researchTree";
+    
+    /**
+     * Caffeine caches with a fixed set of names so the actuator registers hit/miss/eviction
+     * metrics for each of them at startup. Wrapped to be transaction-aware: evictions issued
+     * inside a transaction are applied after it commits, so entries cached from the old data while
+     * it runs are removed too. A read that loaded the old data but stores it only after the eviction
+     * can still leave a stale entry; nothing detects that, so it lasts until the next eviction or
+     * the expireAfterWrite bound of the cache spec.
+     * Student verification results, negative ones included, get their own bound and shorter TTL.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.spec}") String cacheSpec,
+                                     @Value("${app.cache.student-verification-spec}") String studentVerificationSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+            PUBLIC_LECTURERS, LECTURERS_BY_CATEGORY, LECTURERS_BY_DEPARTMENT, LECTURER_CONTACTS, RESEARCH_TREE);
+        cacheManager.setCacheSpecification(cacheSpec);
+        cacheManager.registerCustomCache(STUDENT_VERIFICATION, Caffeine.from(studentVerificationSpec).build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+    
+    /**
+     * The JCache manager behind Hibernate's second-level cache. Without it Hibernate uses the
+     * provider's default manager, which is shared by every application context in the JVM, so a
+     * context shutting down (as test contexts do) would close the caches of the others.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager secondLevelCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("advisor-finder:" + UUID.randomUUID()), getClass().getClassLoader());
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(javax.cache.CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -2,6 +2,7 @@ package com.university.advisorfinder.config;
 
 import com.university.advisorfinder.service.LecturerService;
 import com.university.advisorfinder.service.ResearchService;
+import com.university.advisorfinder.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -9,15 +10,47 @@ import org.springframework.stereotype.Component;
 @Component
 public class DataInitializer implements CommandLineRunner {
     
+    private static final int STUDENT_MIGRATION_BATCH_SIZE = 500;
+    
+    @Autowired
+    private IdGeneratorAligner idGeneratorAligner;
+    
     @Autowired
     private ResearchService researchService;
     
     @Autowired
     private LecturerService lecturerService;
     
+    @Autowired
+    private StudentService studentService;
+    
     @Override
     public void run(String... args) throws Exception {
+        idGeneratorAligner.alignWithExistingRows();
         researchService.initializeDefaultData();
         lecturerService.initializeSampleLecturers();
+        migrateStudentInterests();
+        migrateStudentEmails();
+        studentService.initializeEmailFilter();
+    }
+    
+    /**
+     * Links free-text interests of existing students to research interests, one batch per transaction.
+     */
+    private void migrateStudentInterests() {
+        long afterId = 0;
+        do {
+            afterId = studentService.migrateInterestsBatch(afterId, STUDENT_MIGRATION_BATCH_SIZE);
+        } while (afterId >= 0);
+    }
+    
+    /**
+     * Normalises emails stored before registration did, one batch per transaction.
+     */
+    private void migrateStudentEmails() {
+        long afterId = 0;
+        do {
+            afterId = studentService.migrateEmailsBatch(afterId, STUDENT_MIGRATION_BATCH_SIZE);
+        } while (afterId >= 0);
     }
 }
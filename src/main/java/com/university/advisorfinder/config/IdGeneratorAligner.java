@@ -0,0 +1,57 @@
+package com.university.advisorfinder.config;
+
+import com.university.advisorfinder.model.IdGenerators;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Moves the id generator rows past the ids already stored, so databases created while ids were
+ * auto-increment columns keep working after the switch to table-backed generators.
+ */
+@Component
+public class IdGeneratorAligner {
+
+    private static final List<String> ENTITY_TABLES =
+        Arrays.asList("research_categories", "research_interests", "lecturers", "students");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Makes every generator row start above the highest existing id of its table.
+     * Rows that are already ahead are left untouched, so this is a no-op after the first run.
+     */
+    @Transactional
+    public void alignWithExistingRows() {
+        String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getIdentifierQuoteString().trim());
+        String generators = quote + IdGenerators.TABLE + quote;
+        String segment = quote + IdGenerators.SEGMENT_COLUMN + quote;
+        String value = quote + IdGenerators.VALUE_COLUMN + quote;
+
+        for (String table : ENTITY_TABLES) {
+            Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + quote + "id" + quote + ") FROM " + quote + table + quote, Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            // One block of headroom keeps both the pooled and pooled-lo optimizers clear of maxId
+            long nextValue = maxId + 1 + IdGenerators.ALLOCATION_SIZE;
+            Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + generators + " WHERE " + segment + " = ?", Integer.class, table);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("INSERT INTO " + generators + " (" + segment + ", " + value + ") VALUES (?, ?)",
+                    table, nextValue);
+            } else {
+                jdbcTemplate.update("UPDATE " + generators + " SET " + value + " = ? WHERE " + segment + " = ? AND " +
+                    value + " <= ?", nextValue, table, maxId);
+            }
+        }
+    }
+}
@@ -1,15 +1,55 @@
 package com.university.advisorfinder.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
     
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+    
+    public static final String REGISTRATION_EXECUTOR = "registrationExecutor";
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Dedicated pool for BCrypt hashing, one thread per core since hashing is pure CPU work.
+     * The queue is bounded and full submissions are rejected rather than queued, so registration
+     * bursts surface as backpressure instead of starving the request threads.
+     */
+    @Bean(name = PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${app.password-hashing.queue-capacity}") int queueCapacity) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+    
+    /**
+     * Runs the database part of a registration once its hash is ready, keeping blocking JDBC work
+     * off the hashing pool. Its queue holds everything the hashing pool can have in flight, so a
+     * completed hash is never rejected here.
+     */
+    @Bean(name = REGISTRATION_EXECUTOR)
+    public ThreadPoolTaskExecutor registrationExecutor(@Value("${app.registration.threads}") int threads,
+                                                       @Value("${app.password-hashing.queue-capacity}") int hashingQueueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashingQueueCapacity + Runtime.getRuntime().availableProcessors());
+        executor.setThreadNamePrefix("registration-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
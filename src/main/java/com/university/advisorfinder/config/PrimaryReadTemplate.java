@@ -0,0 +1,31 @@
+package com.university.advisorfinder.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads in a new read-only transaction that is routed to the primary even when a replica
+ * is configured. Views derived from the database, such as the directory snapshot, the search
+ * index and the Spring caches, are rebuilt right after a write and kept until the next one, so
+ * they must not be built from a replica that has not applied that write yet.
+ */
+@Component
+public class PrimaryReadTemplate {
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    public PrimaryReadTemplate(PlatformTransactionManager transactionManager) {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // A new transaction, so it gets its own connection rather than joining one taken from the replica
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+    }
+    
+    public <T> T execute(Supplier<T> reads) {
+        return ReadReplicaRoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> reads.get()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.university.advisorfinder.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * The read-only flag is only known once the transaction is set up, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers fetching the connection until the first statement.
+ * Read-only work that must see the latest writes can be pinned to the primary with onPrimary.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+    
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+    
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.put(REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+    
+    /**
+     * Routes every connection fetched by the action to the primary. Connections already bound to
+     * an enclosing transaction are unaffected, so the action should start its own transaction.
+     * @param action the action to run
+     * @return the action's result
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_ONLY.get() != null) {
+            return PRIMARY;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -1,25 +1,44 @@
 package com.university.advisorfinder.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
+import java.util.UUID;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+    
+    public static final String ADMIN_ROLE = "ADMIN";
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors().and()
             .csrf().disable()
+            .httpBasic().and()
             .authorizeHttpRequests(authz -> authz
+                // Administrative endpoints, matched before the public wildcards below
+                .antMatchers(HttpMethod.POST, "/api/lecturers/import").hasRole(ADMIN_ROLE)
+                .antMatchers(HttpMethod.POST, "/api/students/bulk").hasRole(ADMIN_ROLE)
+                .antMatchers(HttpMethod.GET, "/api/students/interest-demand").hasRole(ADMIN_ROLE)
                 .antMatchers(
                     "/api/lecturers/**",
                     "/api/research/**",
@@ -27,6 +46,7 @@ public class SecurityConfig {
                     "/api/students/check-email",
                     "/api/test/**",
                     "/api/university/**",
+                    "/actuator/health",
                     "/static/**",
                     "/",
                     "/index.html",
@@ -38,11 +58,31 @@ public class SecurityConfig {
                     "/js/**",
                     "/images/**"
                 ).permitAll()
+                // Metrics and the other exposed endpoints; health is public above
+                .antMatchers("/actuator/**").hasRole(ADMIN_ROLE)
                 .anyRequest().authenticated()
             );
         
         return http.build();
     }
+    
+    /**
+     * The single administrator account behind HTTP Basic. Without a configured password a random
+     * one is generated and logged at startup, so the admin endpoints are never open by default.
+     */
+    @Bean
+    public UserDetailsService userDetailsService(@Value("${app.admin.username}") String username,
+                                                 @Value("${app.admin.password:}") String password,
+                                                 PasswordEncoder passwordEncoder) {
+        if (!StringUtils.hasText(password)) {
+            password = UUID.randomUUID().toString();
+            logger.warn("No app.admin.password set, using generated admin password: {}", password);
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles(ADMIN_ROLE)
+                .build());
+    }
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -51,6 +91,7 @@ public class SecurityConfig {
     configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost:3001"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("Content-Type", "ETag"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -1,14 +1,32 @@
 package com.university.advisorfinder.controller;
 
+import com.university.advisorfinder.dto.FacetedSearchResultDTO;
 import com.university.advisorfinder.dto.LecturerContactDTO;
+import com.university.advisorfinder.dto.LecturerImportReportDTO;
+import com.university.advisorfinder.dto.LecturerMatchDTO;
+import com.university.advisorfinder.dto.LecturerPageDTO;
 import com.university.advisorfinder.dto.LecturerPublicDTO;
 import com.university.advisorfinder.model.Lecturer;
+import com.university.advisorfinder.service.DataVersion;
+import com.university.advisorfinder.service.LecturerDirectorySnapshot;
+import com.university.advisorfinder.service.LecturerImportService;
 import com.university.advisorfinder.service.LecturerService;
+import com.university.advisorfinder.service.LecturerSort;
 import com.university.advisorfinder.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/lecturers")
@@ -21,24 +39,81 @@ public class LecturerController {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private DataVersion dataVersion;
+    
+    @Autowired
+    private LecturerDirectorySnapshot directorySnapshot;
+    
+    @Autowired
+    private LecturerImportService lecturerImportService;
+    
     @GetMapping(value = "/public")
-    public ResponseEntity<List<LecturerPublicDTO>> getAllLecturersPublic() {
+    public ResponseEntity<?> getAllLecturersPublic(WebRequest request) {
+        LecturerDirectorySnapshot.Snapshot snapshot = directorySnapshot.current();
+        if (snapshot != null) {
+            return snapshotResponse(snapshot, request);
+        }
+        // Read the version before the data: a concurrent write can only make the tag older, never newer
+        String etag = dataVersion.lecturerDirectoryTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<LecturerPublicDTO> lecturers = lecturerService.getAllLecturersPublic();
-        return ResponseEntity.ok(lecturers);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(lecturers);
+    }
+    
+    @GetMapping(value = "/public", params = "size")
+    public ResponseEntity<?> getLecturersPublicPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort) {
+        try {
+            LecturerPageDTO page = lecturerService.getLecturersPublicPage(LecturerSort.fromParameter(sort), cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLecturers() {
+        StreamingResponseBody body = out -> lecturerService.exportLecturersPublic(out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
     
     @GetMapping(value = "/search")
-    public ResponseEntity<List<LecturerPublicDTO>> searchLecturers(@RequestParam String keyword) {
-        List<LecturerPublicDTO> lecturers = lecturerService.searchLecturersByKeyword(keyword);
+    public ResponseEntity<List<LecturerPublicDTO>> searchLecturers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+        List<LecturerPublicDTO> lecturers = lecturerService.searchLecturersByKeyword(keyword, fuzzy);
         return ResponseEntity.ok(lecturers);
     }
     
     @GetMapping(value = "/by-interests")
-    public ResponseEntity<List<LecturerPublicDTO>> findLecturersByInterests(@RequestParam List<Long> interestIds) {
-        List<LecturerPublicDTO> lecturers = lecturerService.findLecturersByResearchInterests(interestIds);
+    public ResponseEntity<List<LecturerPublicDTO>> findLecturersByInterests(
+            @RequestParam List<Long> interestIds,
+            @RequestParam(defaultValue = "any") String match) {
+        boolean matchAll = "all".equalsIgnoreCase(match);
+        List<LecturerPublicDTO> lecturers = lecturerService.findLecturersByResearchInterests(interestIds, matchAll);
         return ResponseEntity.ok(lecturers);
     }
     
+    @GetMapping(value = "/by-interests/ranked")
+    public ResponseEntity<List<LecturerMatchDTO>> rankLecturersByInterests(
+            @RequestParam List<Long> interestIds,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<LecturerMatchDTO> matches = lecturerService.rankLecturersByResearchInterests(interestIds, limit);
+        return ResponseEntity.ok(matches);
+    }
+    
     @GetMapping(value = "/by-category/{categoryId}")
     public ResponseEntity<List<LecturerPublicDTO>> findLecturersByCategory(@PathVariable Long categoryId) {
         List<LecturerPublicDTO> lecturers = lecturerService.findLecturersByCategory(categoryId);
@@ -57,7 +132,7 @@ public class LecturerController {
             @RequestParam String studentEmail) {
         
         // Verify student exists to access contact information
-        if (!studentService.existsByEmail(studentEmail)) {
+        if (!studentService.isVerifiedStudent(studentEmail)) {
             return ResponseEntity.status(403).build(); // Forbidden - student not registered
         }
         
@@ -66,9 +141,166 @@ public class LecturerController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/filter")
+    public ResponseEntity<List<LecturerPublicDTO>> filterLecturers(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) List<Long> interestIds,
+            @RequestParam(required = false) String keyword) {
+        List<LecturerPublicDTO> lecturers = lecturerService.filterLecturers(department, categoryId, interestIds, keyword);
+        return ResponseEntity.ok(lecturers);
+    }
+    
+    @GetMapping("/facets")
+    public ResponseEntity<FacetedSearchResultDTO> facetedSearch(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) List<Long> interestIds) {
+        FacetedSearchResultDTO result = lecturerService.facetedSearch(keyword, fuzzy, department, categoryId, interestIds);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<LecturerMatchDTO>> getRecommendations(
+            @RequestParam String studentEmail,
+            @RequestParam(defaultValue = "10") int limit) {
+        return studentService.findByEmail(studentEmail)
+                .map(student -> ResponseEntity.ok(lecturerService.recommendLecturers(student.getInterests(), limit)))
+                .orElse(ResponseEntity.status(403).build()); // Forbidden - student not registered
+    }
+    
+    @GetMapping("/contacts")
+    public ResponseEntity<?> getLecturerContacts(
+            @RequestParam List<Long> ids,
+            @RequestParam String studentEmail) {
+        
+        // Verify the student once for the whole batch
+        if (!studentService.isVerifiedStudent(studentEmail)) {
+            return ResponseEntity.status(403).build(); // Forbidden - student not registered
+        }
+        
+        try {
+            return ResponseEntity.ok(lecturerService.getLecturerContacts(ids));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
     @PostMapping("/register")
     public ResponseEntity<?> registerLecturer(@RequestBody Lecturer lecturer) {
         Lecturer saved = lecturerService.saveLecturer(lecturer);
         return ResponseEntity.ok(saved);
     }
+    
+    /**
+     * Imports a JSON array of lecturers, streamed from the request body.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importLecturers(HttpServletRequest request) throws IOException {
+        try {
+            LecturerImportReportDTO report = lecturerImportService.importFromJson(request.getInputStream());
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return importError(e);
+        }
+    }
+    
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<?> importLecturersCsv(HttpServletRequest request) throws IOException {
+        try {
+            LecturerImportReportDTO report = lecturerImportService.importFromCsv(request.getReader());
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return importError(e);
+        }
+    }
+    
+    /**
+     * Serves the pre-encoded directory. The gzip body is a different representation from the
+     * identity body, so it carries its own entity tag, and only the tag of the representation
+     * selected by Accept-Encoding revalidates.
+     */
+    private ResponseEntity<?> snapshotResponse(LecturerDirectorySnapshot.Snapshot snapshot, WebRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
+    }
+    
+    /**
+     * @return whether gzip, or the wildcard when gzip is not listed, is acceptable with a q-value above zero
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return quality > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+    
+    /**
+     * Weak comparison, as If-None-Match requires.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private ResponseEntity<?> importError(IllegalArgumentException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
 }
@@ -1,11 +1,18 @@
 package com.university.advisorfinder.controller;
 
+import com.university.advisorfinder.dto.ResearchCategoryNodeDTO;
+import com.university.advisorfinder.dto.SuggestionDTO;
 import com.university.advisorfinder.model.ResearchCategory;
 import com.university.advisorfinder.model.ResearchInterest;
+import com.university.advisorfinder.service.AutocompleteService;
+import com.university.advisorfinder.service.DataVersion;
 import com.university.advisorfinder.service.ResearchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -16,16 +23,52 @@ public class ResearchController {
     @Autowired
     private ResearchService researchService;
     
+    @Autowired
+    private AutocompleteService autocompleteService;
+    
+    @Autowired
+    private DataVersion dataVersion;
+    
     @GetMapping("/categories")
-    public ResponseEntity<List<ResearchCategory>> getAllCategories() {
+    public ResponseEntity<List<ResearchCategory>> getAllCategories(WebRequest request) {
+        String etag = dataVersion.taxonomyTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<ResearchCategory> categories = researchService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(categories);
+    }
+    
+    /**
+     * Categories with nested interests and lecturer counts in one response, for loading the taxonomy at once.
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<ResearchCategoryNodeDTO>> getResearchTree(WebRequest request) {
+        String etag = dataVersion.researchTreeTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<ResearchCategoryNodeDTO> tree = researchService.getResearchTree();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(tree);
     }
     
     @GetMapping("/interests")
-    public ResponseEntity<List<ResearchInterest>> getAllInterests() {
+    public ResponseEntity<List<ResearchInterest>> getAllInterests(WebRequest request) {
+        String etag = dataVersion.taxonomyTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<ResearchInterest> interests = researchService.getAllInterests();
-        return ResponseEntity.ok(interests);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(interests);
     }
     
     @GetMapping("/interests/category/{categoryId}")
@@ -39,4 +82,12 @@ public class ResearchController {
         List<ResearchInterest> interests = researchService.searchInterestsByKeyword(keyword);
         return ResponseEntity.ok(interests);
     }
+    
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SuggestionDTO>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionDTO> suggestions = autocompleteService.suggest(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
 }
@@ -1,36 +1,97 @@
 package com.university.advisorfinder.controller;
 
+import com.university.advisorfinder.config.PasswordConfig;
+import com.university.advisorfinder.dto.BulkRegistrationReportDTO;
+import com.university.advisorfinder.dto.InterestDemandDTO;
 import com.university.advisorfinder.dto.StudentRegistrationDTO;
 import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.service.StudentBulkRegistrationService;
 import com.university.advisorfinder.service.StudentService;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/students")
 @CrossOrigin(origins = "http://localhost:3000")
 public class StudentController {
     
+    private static final String RETRY_AFTER_SECONDS = "5";
+    
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private StudentBulkRegistrationService bulkRegistrationService;
+    
+    @Autowired
+    @Qualifier(PasswordConfig.REGISTRATION_EXECUTOR)
+    private Executor registrationExecutor;
+    
+    /**
+     * Hashes the password on the password hashing pool and completes asynchronously,
+     * so the request thread is released while BCrypt runs. The student is then saved on the
+     * registration pool, so the hashing threads only ever run BCrypt.
+     */
     @PostMapping("/register")
-    public ResponseEntity<?> registerStudent(@Valid @RequestBody StudentRegistrationDTO registrationDTO) {
+    public CompletableFuture<ResponseEntity<?>> registerStudent(@Valid @RequestBody StudentRegistrationDTO registrationDTO) {
+        CompletableFuture<String> passwordHash;
         try {
-            Student student = studentService.registerStudent(registrationDTO);
-            // Return properly structured JSON response
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "Registration successful");
-            response.put("studentId", student.getId());
-            return ResponseEntity.ok(response);
+            studentService.validateRegistration(registrationDTO);
+            passwordHash = studentService.hashPasswordAsync(registrationDTO.getPassword());
         } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
+            return CompletableFuture.completedFuture(registrationFailed(e));
+        }
+        
+        return passwordHash
+                .<ResponseEntity<?>>thenApplyAsync(hash -> {
+                    Student student = studentService.registerStudent(registrationDTO, hash);
+                    // Return properly structured JSON response
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("message", "Registration successful");
+                    response.put("studentId", student.getId());
+                    return ResponseEntity.ok(response);
+                }, registrationExecutor)
+                .exceptionally(e -> registrationFailed(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+    }
+    
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> registerStudentsBulk(@RequestBody List<StudentRegistrationDTO> registrations) {
+        try {
+            BulkRegistrationReportDTO report = bulkRegistrationService.registerStudents(registrations);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return registrationError(e);
+        } catch (RejectedExecutionException e) {
+            return registrationBusy();
+        }
+    }
+    
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<?> registerStudentsBulkCsv(HttpServletRequest request) throws IOException {
+        try {
+            BulkRegistrationReportDTO report = bulkRegistrationService.registerStudentsFromCsv(request.getReader());
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return registrationError(e);
+        } catch (RejectedExecutionException e) {
+            return registrationBusy();
         }
     }
     
@@ -47,6 +108,11 @@ public class StudentController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/interest-demand")
+    public ResponseEntity<List<InterestDemandDTO>> getInterestDemand() {
+        return ResponseEntity.ok(studentService.getInterestDemand());
+    }
+    
     @GetMapping("/all")
     public ResponseEntity<?> getAllStudents() {
         try {
@@ -57,4 +123,37 @@ public class StudentController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+    
+    /**
+     * The async registration did not complete within spring.mvc.async.request-timeout.
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<?> registrationTimedOut(AsyncRequestTimeoutException e) {
+        return registrationBusy();
+    }
+    
+    /**
+     * Full pools and database timeouts are temporary, so they are answered with 503 and
+     * Retry-After; anything else means the registration itself was rejected.
+     */
+    private ResponseEntity<?> registrationFailed(Throwable e) {
+        if (e instanceof RejectedExecutionException || e instanceof TransientDataAccessException) {
+            return registrationBusy();
+        }
+        return registrationError(e);
+    }
+    
+    private ResponseEntity<?> registrationBusy() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Registration is busy, please retry shortly");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(error);
+    }
+    
+    private ResponseEntity<?> registrationError(Throwable e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
 }
@@ -0,0 +1,38 @@
+package com.university.advisorfinder.dto;
+
+import java.util.List;
+
+public class BulkRegistrationReportDTO {
+    private int total;
+    private int created;
+    private int rejected;
+    private List<BulkRegistrationRowDTO> rows;
+    
+    // Constructors
+    public BulkRegistrationReportDTO() {}
+    
+    public BulkRegistrationReportDTO(List<BulkRegistrationRowDTO> rows) {
+        this.rows = rows;
+        this.total = rows.size();
+        for (BulkRegistrationRowDTO row : rows) {
+            if (BulkRegistrationRowDTO.STATUS_CREATED.equals(row.getStatus())) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+    
+    // Getters and Setters
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    
+    public List<BulkRegistrationRowDTO> getRows() { return rows; }
+    public void setRows(List<BulkRegistrationRowDTO> rows) { this.rows = rows; }
+}
@@ -0,0 +1,52 @@
+package com.university.advisorfinder.dto;
+
+public class BulkRegistrationRowDTO {
+    
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_REJECTED = "REJECTED";
+    
+    private int row;
+    private String email;
+    private String status;
+    private Long id;
+    private String error;
+    
+    // Constructors
+    public BulkRegistrationRowDTO() {}
+    
+    public BulkRegistrationRowDTO(int row, String email) {
+        this.row = row;
+        this.email = email;
+    }
+    
+    // Getters and Setters
+    public int getRow() { return row; }
+    public void setRow(int row) { this.row = row; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    
+    public void created(Long id) {
+        this.status = STATUS_CREATED;
+        this.id = id;
+        this.error = null;
+    }
+    
+    public void rejected(String error) {
+        this.status = STATUS_REJECTED;
+        this.error = error;
+    }
+    
+    public boolean isRejected() {
+        return STATUS_REJECTED.equals(status);
+    }
+}
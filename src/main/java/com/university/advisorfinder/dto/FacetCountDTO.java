@@ -0,0 +1,26 @@
+package com.university.advisorfinder.dto;
+
+public class FacetCountDTO {
+    private Long id;
+    private String label;
+    private long count;
+    
+    // Constructors
+    public FacetCountDTO() {}
+    
+    public FacetCountDTO(Long id, String label, long count) {
+        this.id = id;
+        this.label = label;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+    
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,34 @@
+package com.university.advisorfinder.dto;
+
+import java.util.List;
+
+public class FacetedSearchResultDTO {
+    private List<LecturerPublicDTO> lecturers;
+    private List<FacetCountDTO> departments;
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> interests;
+    
+    // Constructors
+    public FacetedSearchResultDTO() {}
+    
+    public FacetedSearchResultDTO(List<LecturerPublicDTO> lecturers, List<FacetCountDTO> departments,
+                                  List<FacetCountDTO> categories, List<FacetCountDTO> interests) {
+        this.lecturers = lecturers;
+        this.departments = departments;
+        this.categories = categories;
+        this.interests = interests;
+    }
+    
+    // Getters and Setters
+    public List<LecturerPublicDTO> getLecturers() { return lecturers; }
+    public void setLecturers(List<LecturerPublicDTO> lecturers) { this.lecturers = lecturers; }
+    
+    public List<FacetCountDTO> getDepartments() { return departments; }
+    public void setDepartments(List<FacetCountDTO> departments) { this.departments = departments; }
+    
+    public List<FacetCountDTO> getCategories() { return categories; }
+    public void setCategories(List<FacetCountDTO> categories) { this.categories = categories; }
+    
+    public List<FacetCountDTO> getInterests() { return interests; }
+    public void setInterests(List<FacetCountDTO> interests) { this.interests = interests; }
+}
@@ -0,0 +1,26 @@
+package com.university.advisorfinder.dto;
+
+public class InterestDemandDTO {
+    private Long interestId;
+    private String interestName;
+    private long students;
+    
+    // Constructors
+    public InterestDemandDTO() {}
+    
+    public InterestDemandDTO(Long interestId, String interestName, long students) {
+        this.interestId = interestId;
+        this.interestName = interestName;
+        this.students = students;
+    }
+    
+    // Getters and Setters
+    public Long getInterestId() { return interestId; }
+    public void setInterestId(Long interestId) { this.interestId = interestId; }
+    
+    public String getInterestName() { return interestName; }
+    public void setInterestName(String interestName) { this.interestName = interestName; }
+    
+    public long getStudents() { return students; }
+    public void setStudents(long students) { this.students = students; }
+}
@@ -0,0 +1,55 @@
+package com.university.advisorfinder.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LecturerImportDTO {
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String title;
+    private String department;
+    private String officeLocation;
+    private String officeHours;
+    private String bio;
+    private String profileImageUrl;
+    private List<String> researchInterests = new ArrayList<>();
+    
+    // Constructors
+    public LecturerImportDTO() {}
+    
+    // Getters and Setters
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+    
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    
+    public String getOfficeLocation() { return officeLocation; }
+    public void setOfficeLocation(String officeLocation) { this.officeLocation = officeLocation; }
+    
+    public String getOfficeHours() { return officeHours; }
+    public void setOfficeHours(String officeHours) { this.officeHours = officeHours; }
+    
+    public String getBio() { return bio; }
+    public void setBio(String bio) { this.bio = bio; }
+    
+    public String getProfileImageUrl() { return profileImageUrl; }
+    public void setProfileImageUrl(String profileImageUrl) { this.profileImageUrl = profileImageUrl; }
+    
+    public List<String> getResearchInterests() { return researchInterests; }
+    public void setResearchInterests(List<String> researchInterests) { this.researchInterests = researchInterests; }
+}
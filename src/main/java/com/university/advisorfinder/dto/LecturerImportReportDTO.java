@@ -0,0 +1,39 @@
+package com.university.advisorfinder.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LecturerImportReportDTO {
+    private int total;
+    private int created;
+    private int rejected;
+    private List<BulkRegistrationRowDTO> errors = new ArrayList<>();
+    
+    // Constructors
+    public LecturerImportReportDTO() {}
+    
+    public void created(int count) {
+        total += count;
+        created += count;
+    }
+    
+    public void rejected(BulkRegistrationRowDTO row, String error) {
+        row.rejected(error);
+        total++;
+        rejected++;
+        errors.add(row);
+    }
+    
+    // Getters and Setters
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    
+    public List<BulkRegistrationRowDTO> getErrors() { return errors; }
+    public void setErrors(List<BulkRegistrationRowDTO> errors) { this.errors = errors; }
+}
@@ -0,0 +1,26 @@
+package com.university.advisorfinder.dto;
+
+public class LecturerMatchDTO {
+    private LecturerPublicDTO lecturer;
+    private double score;
+    private int matchedInterests;
+    
+    // Constructors
+    public LecturerMatchDTO() {}
+    
+    public LecturerMatchDTO(LecturerPublicDTO lecturer, double score, int matchedInterests) {
+        this.lecturer = lecturer;
+        this.score = score;
+        this.matchedInterests = matchedInterests;
+    }
+    
+    // Getters and Setters
+    public LecturerPublicDTO getLecturer() { return lecturer; }
+    public void setLecturer(LecturerPublicDTO lecturer) { this.lecturer = lecturer; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+    
+    public int getMatchedInterests() { return matchedInterests; }
+    public void setMatchedInterests(int matchedInterests) { this.matchedInterests = matchedInterests; }
+}
@@ -0,0 +1,37 @@
+package com.university.advisorfinder.dto;
+
+import java.util.List;
+
+public class LecturerPageDTO {
+    private List<LecturerPublicDTO> lecturers;
+    private String nextCursor;
+    private int size;
+    private String sort;
+    
+    // Constructors
+    public LecturerPageDTO() {}
+    
+    public LecturerPageDTO(List<LecturerPublicDTO> lecturers, String nextCursor, int size, String sort) {
+        this.lecturers = lecturers;
+        this.nextCursor = nextCursor;
+        this.size = size;
+        this.sort = sort;
+    }
+    
+    // Getters and Setters
+    public List<LecturerPublicDTO> getLecturers() { return lecturers; }
+    public void setLecturers(List<LecturerPublicDTO> lecturers) { this.lecturers = lecturers; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    
+    public String getSort() { return sort; }
+    public void setSort(String sort) { this.sort = sort; }
+    
+    public boolean isLastPage() {
+        return nextCursor == null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.advisorfinder.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable category node of the research taxonomy tree; instances are shared from the cache.
+ */
+public class ResearchCategoryNodeDTO {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final List<ResearchInterestNodeDTO> interests;
+    
+    // Constructors
+    public ResearchCategoryNodeDTO(Long id, String name, String description, List<ResearchInterestNodeDTO> interests) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.interests = Collections.unmodifiableList(new ArrayList<>(interests));
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    
+    public String getName() { return name; }
+    
+    public String getDescription() { return description; }
+    
+    public List<ResearchInterestNodeDTO> getInterests() { return interests; }
+}
@@ -5,6 +5,7 @@ public class ResearchInterestDTO {
     private String name;
     private String description;
     private String categoryName;
+    private Long categoryId;
     
     // Constructors
     public ResearchInterestDTO() {}
@@ -16,6 +17,11 @@ public class ResearchInterestDTO {
         this.categoryName = categoryName;
     }
     
+    public ResearchInterestDTO(Long id, String name, String description, String categoryName, Long categoryId) {
+        this(id, name, description, categoryName);
+        this.categoryId = categoryId;
+    }
+    
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -28,4 +34,7 @@ public class ResearchInterestDTO {
     
     public String getCategoryName() { return categoryName; }
     public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
+    
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
 }
@@ -0,0 +1,28 @@
+package com.university.advisorfinder.dto;
+
+/**
+ * Immutable interest node of the research taxonomy tree.
+ */
+public class ResearchInterestNodeDTO {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final long lecturerCount;
+    
+    // Constructors
+    public ResearchInterestNodeDTO(Long id, String name, String description, long lecturerCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.lecturerCount = lecturerCount;
+    }
+    
+    // Getters
+    public Long getId() { return id; }
+    
+    public String getName() { return name; }
+    
+    public String getDescription() { return description; }
+    
+    public long getLecturerCount() { return lecturerCount; }
+}
@@ -0,0 +1,42 @@
+package com.university.advisorfinder.dto;
+
+/**
+ * One row of the taxonomy tree query: a category, one of its interests (null for a category
+ * without interests) and the number of lecturers with that interest.
+ */
+public class ResearchTreeRowDTO {
+    private final Long categoryId;
+    private final String categoryName;
+    private final String categoryDescription;
+    private final Long interestId;
+    private final String interestName;
+    private final String interestDescription;
+    private final long lecturerCount;
+    
+    // Constructors
+    public ResearchTreeRowDTO(Long categoryId, String categoryName, String categoryDescription,
+                              Long interestId, String interestName, String interestDescription, Long lecturerCount) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categoryDescription = categoryDescription;
+        this.interestId = interestId;
+        this.interestName = interestName;
+        this.interestDescription = interestDescription;
+        this.lecturerCount = lecturerCount == null ? 0 : lecturerCount;
+    }
+    
+    // Getters
+    public Long getCategoryId() { return categoryId; }
+    
+    public String getCategoryName() { return categoryName; }
+    
+    public String getCategoryDescription() { return categoryDescription; }
+    
+    public Long getInterestId() { return interestId; }
+    
+    public String getInterestName() { return interestName; }
+    
+    public String getInterestDescription() { return interestDescription; }
+    
+    public long getLecturerCount() { return lecturerCount; }
+}
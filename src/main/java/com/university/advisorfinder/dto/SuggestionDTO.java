@@ -0,0 +1,31 @@
+package com.university.advisorfinder.dto;
+
+public class SuggestionDTO {
+    
+    public static final String TYPE_CATEGORY = "CATEGORY";
+    public static final String TYPE_INTEREST = "INTEREST";
+    public static final String TYPE_LECTURER = "LECTURER";
+    
+    private String type;
+    private Long id;
+    private String label;
+    
+    // Constructors
+    public SuggestionDTO() {}
+    
+    public SuggestionDTO(String type, Long id, String label) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+    }
+    
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+}
@@ -0,0 +1,21 @@
+package com.university.advisorfinder.model;
+
+/**
+ * Shared settings of the table-backed identifier generators.
+ * Every entity draws its ids from one row of the generator table, keyed by the entity's table name,
+ * and reserves ALLOCATION_SIZE ids per round trip, so inserts no longer need the database to
+ * return generated keys and Hibernate can send them as JDBC batches.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+
+    public static final String SEGMENT_COLUMN = "sequence_name";
+
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -10,11 +10,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "lecturers")
+@Table(name = "lecturers", indexes = {
+    @Index(name = "idx_lecturers_last_name_id", columnList = "last_name, id"),
+    @Index(name = "idx_lecturers_department_id", columnList = "department, id")
+})
 public class Lecturer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "lecturer_ids")
+    @TableGenerator(name = "lecturer_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "lecturers", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "First name is required")
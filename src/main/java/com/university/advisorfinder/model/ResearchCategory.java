@@ -2,6 +2,8 @@ package com.university.advisorfinder.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
@@ -10,10 +12,13 @@ import java.util.Set;
 
 @Entity
 @Table(name = "research_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ResearchCategory {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "research_category_ids")
+    @TableGenerator(name = "research_category_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "research_categories", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "Category name is required")
@@ -28,6 +33,7 @@ public class ResearchCategory {
     @JsonManagedReference("category-interests")
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @BatchSize(size = 10)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<ResearchInterest> researchInterests = new HashSet<>();
     
     // Constructors
@@ -1,6 +1,8 @@
 package com.university.advisorfinder.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
@@ -9,10 +11,13 @@ import java.util.Set;
 
 @Entity
 @Table(name = "research_interests")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ResearchInterest {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "research_interest_ids")
+    @TableGenerator(name = "research_interest_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "research_interests", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "Interest name is required")
@@ -1,16 +1,21 @@
 package com.university.advisorfinder.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import javax.persistence.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "students")
 public class Student {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "student_ids")
+    @TableGenerator(name = "student_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "students", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "First name is required")
@@ -47,6 +52,17 @@ public class Student {
     @Column(name = "interests", columnDefinition = "TEXT")
     private String interests;
     
+    // Resolved from the free-text interests; indexed by interest for "who is interested in X" lookups
+    @JsonIgnore
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "student_research_interests",
+        joinColumns = @JoinColumn(name = "student_id"),
+        inverseJoinColumns = @JoinColumn(name = "research_interest_id"),
+        indexes = @Index(name = "idx_student_interests_interest_student", columnList = "research_interest_id, student_id")
+    )
+    private Set<ResearchInterest> researchInterests = new HashSet<>();
+    
     @NotBlank(message = "Password is required")
     @Size(min = 8, message = "Password must be at least 8 characters long")
     @Column(name = "password", nullable = false)
@@ -89,6 +105,9 @@ public class Student {
     public String getInterests() { return interests; }
     public void setInterests(String interests) { this.interests = interests; }
     
+    public Set<ResearchInterest> getResearchInterests() { return researchInterests; }
+    public void setResearchInterests(Set<ResearchInterest> researchInterests) { this.researchInterests = researchInterests; }
+    
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
     
@@ -1,29 +1,105 @@
 package com.university.advisorfinder.repository;
 
+import com.university.advisorfinder.dto.LecturerContactDTO;
+import com.university.advisorfinder.dto.SuggestionDTO;
 import com.university.advisorfinder.model.Lecturer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * List queries fetch research interests and their categories in the same statement,
+ * so converting the results to DTOs never triggers lazy loading. The DISTINCT is
+ * only needed to de-duplicate the fetch-joined roots and is not sent to the database.
+ */
 @Repository
-public interface LecturerRepository extends JpaRepository<Lecturer, Long> {
+public interface LecturerRepository extends JpaRepository<Lecturer, Long>, JpaSpecificationExecutor<Lecturer> {
     
     Optional<Lecturer> findByEmail(String email);
     
-    List<Lecturer> findByDepartmentContainingIgnoreCase(String department);
+    @Query("SELECT l.email FROM Lecturer l WHERE l.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @Query("SELECT new com.university.advisorfinder.dto.SuggestionDTO('LECTURER', l.id, CONCAT(l.firstName, ' ', l.lastName)) FROM Lecturer l")
+    List<SuggestionDTO> findSuggestions();
     
-    @Query("SELECT DISTINCT l FROM Lecturer l JOIN l.researchInterests ri WHERE ri.id IN :interestIds")
-    List<Lecturer> findByResearchInterestIds(@Param("interestIds") List<Long> interestIds);
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Lecturer l LEFT JOIN FETCH l.researchInterests ri LEFT JOIN FETCH ri.category")
+    List<Lecturer> findAllWithResearchInterests();
     
-    @Query("SELECT DISTINCT l FROM Lecturer l JOIN l.researchInterests ri WHERE ri.name LIKE %:keyword% OR l.firstName LIKE %:keyword% OR l.lastName LIKE %:keyword% OR l.department LIKE %:keyword%")
-    List<Lecturer> searchByKeyword(@Param("keyword") String keyword);
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Lecturer l LEFT JOIN FETCH l.researchInterests ri LEFT JOIN FETCH ri.category " +
+           "WHERE LOWER(l.department) LIKE LOWER(CONCAT('%', :department, '%'))")
+    List<Lecturer> findByDepartmentContainingIgnoreCase(@Param("department") String department);
     
-    @Query("SELECT DISTINCT l FROM Lecturer l JOIN l.researchInterests ri WHERE ri.category.id = :categoryId")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Lecturer l LEFT JOIN FETCH l.researchInterests ri LEFT JOIN FETCH ri.category " +
+           "WHERE l.id IN (SELECT l2.id FROM Lecturer l2 JOIN l2.researchInterests ri2 WHERE ri2.category.id = :categoryId)")
     List<Lecturer> findByResearchCategoryId(@Param("categoryId") Long categoryId);
     
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT l FROM Lecturer l LEFT JOIN FETCH l.researchInterests ri LEFT JOIN FETCH ri.category WHERE l.id IN :ids")
+    List<Lecturer> findAllWithResearchInterestsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Runs any combination of {@link LecturerSpecifications} as one statement, fetching research
+     * interests and their categories through the entity graph like the other list queries.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"researchInterests", "researchInterests.category"})
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Lecturer> findAll(Specification<Lecturer> spec, Sort sort);
+    
+    @Query("SELECT new com.university.advisorfinder.dto.LecturerContactDTO(l.id, l.firstName, l.lastName, l.email, " +
+           "l.phone, l.officeLocation, l.officeHours, l.title, l.department) FROM Lecturer l WHERE l.id IN :ids")
+    List<LecturerContactDTO> findContactsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Streams every lecturer id in id order from a JDBC cursor instead of materialising the table.
+     * Must be consumed inside a transaction and closed afterwards. On MySQL the connection URL needs
+     * useCursorFetch=true for the fetch size to take effect.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT l.id FROM Lecturer l ORDER BY l.id")
+    Stream<Long> streamAllIdsOrderById();
+    
+    // Keyset pages: each query seeks past the last (sort key, id) seen, so deep pages cost the same as the first.
+    // Lecturers without a department sort first, matching the NULL ordering of both MySQL and H2.
+    
+    @Query("SELECT l.id FROM Lecturer l WHERE l.id > :afterId ORDER BY l.id")
+    List<Long> findPageIdsOrderById(@Param("afterId") long afterId, Pageable pageable);
+    
+    @Query("SELECT l.id FROM Lecturer l WHERE l.lastName > :lastName OR (l.lastName = :lastName AND l.id > :afterId) " +
+           "ORDER BY l.lastName, l.id")
+    List<Long> findPageIdsOrderByLastName(@Param("lastName") String lastName, @Param("afterId") long afterId, Pageable pageable);
+    
+    @Query("SELECT l.id FROM Lecturer l WHERE (l.department IS NULL AND l.id > :afterId) OR l.department IS NOT NULL " +
+           "ORDER BY l.department, l.id")
+    List<Long> findPageIdsOrderByDepartmentAfterNull(@Param("afterId") long afterId, Pageable pageable);
+    
+    @Query("SELECT l.id FROM Lecturer l WHERE l.department > :department OR (l.department = :department AND l.id > :afterId) " +
+           "ORDER BY l.department, l.id")
+    List<Long> findPageIdsOrderByDepartment(@Param("department") String department, @Param("afterId") long afterId, Pageable pageable);
+    
     @Query("SELECT DISTINCT l FROM Lecturer l JOIN l.researchInterests ri WHERE ri.name IN :interestNames")
     List<Lecturer> findByResearchInterests_NameIn(@Param("interestNames") List<String> interestNames);
 }
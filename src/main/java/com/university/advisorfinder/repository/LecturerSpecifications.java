@@ -0,0 +1,105 @@
+package com.university.advisorfinder.repository;
+
+import com.university.advisorfinder.model.Lecturer;
+import com.university.advisorfinder.model.ResearchInterest;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable lecturer filters for {@link LecturerRepository#findAll(Specification, org.springframework.data.domain.Sort)}.
+ * Interest-based filters are EXISTS subqueries rather than joins on the root, so any combination
+ * stays a single statement and the fetched research interest collections remain complete.
+ */
+public final class LecturerSpecifications {
+    
+    private static final char ESCAPE = '\\';
+    
+    private LecturerSpecifications() {
+    }
+    
+    /**
+     * Combines the given filters with AND; null or empty arguments are ignored.
+     */
+    public static Specification<Lecturer> filter(String department, Long categoryId,
+                                                 Collection<Long> interestIds, String keyword) {
+        Specification<Lecturer> spec = Specification.where(distinctLecturers());
+        if (department != null && !department.trim().isEmpty()) {
+            spec = spec.and(departmentContains(department));
+        }
+        if (categoryId != null) {
+            spec = spec.and(inCategory(categoryId));
+        }
+        if (interestIds != null && !interestIds.isEmpty()) {
+            spec = spec.and(hasAnyInterest(interestIds));
+        }
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            spec = spec.and(matchesKeyword(keyword));
+        }
+        return spec;
+    }
+    
+    /**
+     * De-duplicates lecturers multiplied by the fetched research interests, in memory only.
+     */
+    public static Specification<Lecturer> distinctLecturers() {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            return null;
+        };
+    }
+    
+    public static Specification<Lecturer> departmentContains(String department) {
+        String pattern = likePattern(department);
+        return (root, query, cb) -> cb.like(cb.lower(root.<String>get("department")), pattern, ESCAPE);
+    }
+    
+    public static Specification<Lecturer> inCategory(Long categoryId) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Lecturer> lecturer = subquery.correlate(root);
+            Join<Lecturer, ResearchInterest> interest = lecturer.join("researchInterests");
+            subquery.select(interest.<Long>get("id")).where(cb.equal(interest.get("category").get("id"), categoryId));
+            return cb.exists(subquery);
+        };
+    }
+    
+    public static Specification<Lecturer> hasAnyInterest(Collection<Long> interestIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Lecturer> lecturer = subquery.correlate(root);
+            Join<Lecturer, ResearchInterest> interest = lecturer.join("researchInterests");
+            subquery.select(interest.<Long>get("id")).where(interest.get("id").in(interestIds));
+            return cb.exists(subquery);
+        };
+    }
+    
+    /**
+     * Matches the keyword anywhere in the first name, last name, department or a research interest name.
+     */
+    public static Specification<Lecturer> matchesKeyword(String keyword) {
+        String pattern = likePattern(keyword);
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Lecturer> lecturer = subquery.correlate(root);
+            Join<Lecturer, ResearchInterest> interest = lecturer.join("researchInterests");
+            subquery.select(interest.<Long>get("id")).where(cb.like(cb.lower(interest.<String>get("name")), pattern, ESCAPE));
+            return cb.or(
+                cb.like(cb.lower(root.<String>get("firstName")), pattern, ESCAPE),
+                cb.like(cb.lower(root.<String>get("lastName")), pattern, ESCAPE),
+                cb.like(cb.lower(root.<String>get("department")), pattern, ESCAPE),
+                cb.exists(subquery)
+            );
+        };
+    }
+    
+    private static String likePattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
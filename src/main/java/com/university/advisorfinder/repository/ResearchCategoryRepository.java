@@ -1,14 +1,36 @@
 package com.university.advisorfinder.repository;
 
+import com.university.advisorfinder.dto.ResearchTreeRowDTO;
+import com.university.advisorfinder.dto.SuggestionDTO;
 import com.university.advisorfinder.model.ResearchCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface ResearchCategoryRepository extends JpaRepository<ResearchCategory, Long> {
     
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<ResearchCategory> findAll();
+    
     Optional<ResearchCategory> findByName(String name);
     
     boolean existsByName(String name);
+    
+    @Query("SELECT new com.university.advisorfinder.dto.SuggestionDTO('CATEGORY', c.id, c.name) FROM ResearchCategory c")
+    List<SuggestionDTO> findSuggestions();
+    
+    @Query("SELECT new com.university.advisorfinder.dto.ResearchTreeRowDTO(c.id, c.name, c.description, " +
+           "ri.id, ri.name, ri.description, COUNT(l.id)) " +
+           "FROM ResearchCategory c LEFT JOIN c.researchInterests ri LEFT JOIN ri.lecturers l " +
+           "GROUP BY c.id, c.name, c.description, ri.id, ri.name, ri.description " +
+           "ORDER BY c.name, c.id, ri.name, ri.id")
+    List<ResearchTreeRowDTO> findTreeRows();
 }
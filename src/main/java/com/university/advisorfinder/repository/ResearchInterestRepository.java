@@ -1,16 +1,26 @@
 package com.university.advisorfinder.repository;
 
+import com.university.advisorfinder.dto.SuggestionDTO;
 import com.university.advisorfinder.model.ResearchInterest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface ResearchInterestRepository extends JpaRepository<ResearchInterest, Long> {
     
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<ResearchInterest> findAll();
+    
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ResearchInterest> findByCategoryId(Long categoryId);
     
     List<ResearchInterest> findByNameContainingIgnoreCase(String name);
@@ -21,4 +31,7 @@ public interface ResearchInterestRepository extends JpaRepository<ResearchIntere
     
     @Query("SELECT ri FROM ResearchInterest ri WHERE ri.name LIKE %:keyword% OR ri.description LIKE %:keyword%")
     List<ResearchInterest> searchByKeyword(@Param("keyword") String keyword);
+    
+    @Query("SELECT new com.university.advisorfinder.dto.SuggestionDTO('INTEREST', ri.id, ri.name) FROM ResearchInterest ri")
+    List<SuggestionDTO> findSuggestions();
 }
@@ -1,10 +1,26 @@
 package com.university.advisorfinder.repository;
 
+import com.university.advisorfinder.dto.InterestDemandDTO;
 import com.university.advisorfinder.model.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * Interest lookups start from the research_interest_id index of student_research_interests,
+ * so they read only the matching rows instead of scanning the students table.
+ */
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     
@@ -15,4 +31,45 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByStudentId(String studentId);
+    
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @Query("SELECT s.studentId FROM Student s WHERE s.studentId IN :studentIds")
+    List<String> findExistingStudentIds(@Param("studentIds") Collection<String> studentIds);
+    
+    /**
+     * Streams every student email from a JDBC cursor, fetched in batches of the fetch size.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT s.email FROM Student s")
+    Stream<String> streamAllEmails();
+    
+    @Query("SELECT s FROM Student s JOIN s.researchInterests ri WHERE ri.id = :interestId ORDER BY s.id")
+    List<Student> findByResearchInterestId(@Param("interestId") Long interestId);
+    
+    @Query("SELECT COUNT(s) FROM Student s JOIN s.researchInterests ri WHERE ri.id = :interestId")
+    long countByResearchInterestId(@Param("interestId") Long interestId);
+    
+    @Query("SELECT new com.university.advisorfinder.dto.InterestDemandDTO(ri.id, ri.name, COUNT(s)) " +
+           "FROM Student s JOIN s.researchInterests ri GROUP BY ri.id, ri.name ORDER BY COUNT(s) DESC, ri.id")
+    List<InterestDemandDTO> findInterestDemand();
+    
+    /**
+     * Keyset batch of students whose email is not stored trimmed and lower-cased. On a
+     * case-insensitive collation only untrimmed emails differ, which is all that matters there.
+     */
+    @Query("SELECT s FROM Student s WHERE s.id > :afterId AND s.email <> LOWER(TRIM(s.email)) ORDER BY s.id")
+    List<Student> findUnnormalizedEmailsAfter(@Param("afterId") long afterId, Pageable pageable);
+    
+    /**
+     * Keyset batch of students whose free-text interests have not been linked to research interests yet.
+     */
+    @Query("SELECT s FROM Student s WHERE s.id > :afterId AND s.interests IS NOT NULL AND s.interests <> '' " +
+           "AND s.researchInterests IS EMPTY ORDER BY s.id")
+    List<Student> findUnlinkedInterestsAfter(@Param("afterId") long afterId, Pageable pageable);
 }
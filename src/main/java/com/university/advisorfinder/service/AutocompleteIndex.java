@@ -0,0 +1,119 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable prefix index over suggestion labels.
+ * Every word start of every label becomes a key in one sorted array, so a prefix lookup is a
+ * binary search followed by a forward scan over the keys with that prefix: "intel" finds
+ * "Artificial Intelligence". The whole prefix range is ranked, keeping only the best few.
+ */
+final class AutocompleteIndex {
+    
+    private final String[] keys;
+    private final int[] suggestionIndexes;
+    private final int[] wordPositions;
+    private final SuggestionDTO[] suggestions;
+    
+    AutocompleteIndex(Collection<SuggestionDTO> source) {
+        this.suggestions = source.stream()
+                .filter(suggestion -> suggestion.getLabel() != null)
+                .toArray(SuggestionDTO[]::new);
+        
+        List<Key> allKeys = new ArrayList<>();
+        for (int i = 0; i < suggestions.length; i++) {
+            String label = normalize(suggestions[i].getLabel());
+            int word = 0;
+            for (int pos = 0; pos < label.length(); pos++) {
+                if (pos == 0 || label.charAt(pos - 1) == ' ') {
+                    allKeys.add(new Key(label.substring(pos), i, word++));
+                }
+            }
+        }
+        allKeys.sort(Comparator.comparing((Key key) -> key.text));
+        
+        keys = new String[allKeys.size()];
+        suggestionIndexes = new int[allKeys.size()];
+        wordPositions = new int[allKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Key key = allKeys.get(i);
+            keys[i] = key.text;
+            suggestionIndexes[i] = key.suggestionIndex;
+            wordPositions[i] = key.wordPosition;
+        }
+    }
+    
+    /**
+     * Returns suggestions with a word starting with the prefix. Labels that start with the
+     * prefix come first, then shorter labels.
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, best first
+     */
+    List<SuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        
+        int start = Arrays.binarySearch(keys, normalized);
+        if (start < 0) {
+            start = -start - 1;
+        }
+        
+        // First matching word of every suggestion in the prefix range
+        Map<Integer, Integer> firstWords = new HashMap<>();
+        for (int i = start; i < keys.length && keys[i].startsWith(normalized); i++) {
+            firstWords.merge(suggestionIndexes[i], wordPositions[i], Math::min);
+        }
+        
+        Comparator<int[]> ranking = Comparator.<int[]>comparingInt(match -> match[1] == 0 ? 0 : 1)
+                .thenComparingInt(match -> suggestions[match[0]].getLabel().length())
+                .thenComparing(match -> suggestions[match[0]].getLabel())
+                .thenComparingInt(match -> match[0]);
+        // Bounded heap with the worst of the best matches on top
+        PriorityQueue<int[]> best = new PriorityQueue<>(Math.min(limit, firstWords.size()) + 1, ranking.reversed());
+        for (Map.Entry<Integer, Integer> match : firstWords.entrySet()) {
+            best.add(new int[] {match.getKey(), match.getValue()});
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        
+        List<int[]> ranked = new ArrayList<>(best);
+        ranked.sort(ranking);
+        List<SuggestionDTO> results = new ArrayList<>(ranked.size());
+        for (int[] match : ranked) {
+            results.add(suggestions[match[0]]);
+        }
+        return results;
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+    
+    private static final class Key {
+        private final String text;
+        private final int suggestionIndex;
+        private final int wordPosition;
+        
+        private Key(String text, int suggestionIndex, int wordPosition) {
+            this.text = text;
+            this.suggestionIndex = suggestionIndex;
+            this.wordPosition = wordPosition;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.repository.ResearchCategoryRepository;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prefix suggestions over research interest, category and lecturer names for the search box.
+ * The index is built lazily from three projection queries and dropped whenever the
+ * underlying names change, so the next lookup rebuilds it.
+ */
+@Service
+public class AutocompleteService {
+    
+    public static final int MAX_SUGGESTIONS = 25;
+    
+    @Autowired
+    private ResearchCategoryRepository categoryRepository;
+    
+    @Autowired
+    private ResearchInterestRepository interestRepository;
+    
+    @Autowired
+    private LecturerRepository lecturerRepository;
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final Object rebuildLock = new Object();
+    
+    private volatile AutocompleteIndex index;
+    
+    /**
+     * @param prefix the typed prefix, matched against the start of any word
+     * @param limit the maximum number of suggestions, capped at MAX_SUGGESTIONS
+     * @return the suggestions, labels starting with the prefix first
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        AutocompleteIndex current = index;
+        if (current == null) {
+            current = loadIndex();
+        }
+        return current.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+    
+    /**
+     * Drops the current index; called after interests, categories or lecturers are written.
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        index = null;
+    }
+    
+    /**
+     * Lookups that find no index wait for a single rebuild instead of each running the queries.
+     */
+    private AutocompleteIndex loadIndex() {
+        synchronized (rebuildLock) {
+            AutocompleteIndex current = index;
+            return current != null ? current : rebuild();
+        }
+    }
+    
+    private AutocompleteIndex rebuild() {
+        long startedAt = generation.get();
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        suggestions.addAll(categoryRepository.findSuggestions());
+        suggestions.addAll(interestRepository.findSuggestions());
+        suggestions.addAll(lecturerRepository.findSuggestions());
+        AutocompleteIndex rebuilt = new AutocompleteIndex(suggestions);
+        
+        // Only publish if no write happened while loading, otherwise the next lookup rebuilds again
+        synchronized (this) {
+            if (generation.get() == startedAt) {
+                index = rebuilt;
+            }
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,92 @@
+package com.university.advisorfinder.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, optionally double-quoted fields,
+ * doubled quotes inside quoted fields, and line breaks (LF or CRLF) inside quotes.
+ * Records are read one at a time, so large uploads are never held in memory as text.
+ */
+final class CsvReader {
+    
+    private final Reader reader;
+    
+    private int line;
+    
+    private int recordLine;
+    
+    private boolean eof;
+    
+    CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+    
+    /**
+     * @return the line on which the last returned record started, 1-based
+     */
+    int getLineNumber() {
+        return recordLine;
+    }
+    
+    /**
+     * @return the fields of the next non-blank record, or null at the end of input
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    List<String> next() throws IOException {
+        while (!eof) {
+            recordLine = ++line;
+            List<String> fields = readRecord();
+            if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                return fields;
+            }
+        }
+        return null;
+    }
+    
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                eof = true;
+                break;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
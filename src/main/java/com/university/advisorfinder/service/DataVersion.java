@@ -0,0 +1,56 @@
+package com.university.advisorfinder.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for the public read models, used as strong ETags.
+ * The startup epoch is part of every tag so that tags issued before a restart never match.
+ */
+@Component
+public class DataVersion {
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    
+    private final AtomicLong lecturers = new AtomicLong();
+    
+    private final AtomicLong taxonomy = new AtomicLong();
+    
+    public void lecturersChanged() {
+        lecturers.incrementAndGet();
+        eventPublisher.publishEvent(new LecturerDirectoryChangedEvent(lecturerDirectoryTag()));
+    }
+    
+    public void taxonomyChanged() {
+        taxonomy.incrementAndGet();
+        eventPublisher.publishEvent(new LecturerDirectoryChangedEvent(lecturerDirectoryTag()));
+    }
+    
+    /**
+     * Lecturer DTOs embed interest and category names, so this tag also changes with the taxonomy.
+     * @return the ETag value for lecturer directory responses
+     */
+    public String lecturerDirectoryTag() {
+        return "\"lecturers-" + epoch + "-" + lecturers.get() + "-" + taxonomy.get() + "\"";
+    }
+    
+    /**
+     * @return the ETag value for research category and interest responses
+     */
+    public String taxonomyTag() {
+        return "\"taxonomy-" + epoch + "-" + taxonomy.get() + "\"";
+    }
+    
+    /**
+     * The research tree carries lecturer counts, so this tag changes with lecturers and the taxonomy.
+     * @return the ETag value for research tree responses
+     */
+    public String researchTreeTag() {
+        return "\"tree-" + epoch + "-" + lecturers.get() + "-" + taxonomy.get() + "\"";
+    }
+}
@@ -0,0 +1,95 @@
+package com.university.advisorfinder.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over normalised (trimmed, lower-case) email addresses.
+ * A negative answer is definite; a positive one must be confirmed against the database.
+ * Bits are only ever set, so concurrent adds and lookups need no locking. Beyond the
+ * expected number of emails the false positive rate rises, which only costs extra lookups.
+ */
+final class EmailBloomFilter {
+    
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    
+    private volatile boolean loaded;
+    
+    /**
+     * @param expectedEmails the number of emails the filter is sized for
+     * @param falsePositiveRate the target false positive rate at that size, e.g. 0.01
+     */
+    EmailBloomFilter(int expectedEmails, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedEmails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        words = new AtomicLongArray((int) ((bits + 63) / 64));
+        bitCount = (long) words.length() * 64;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEmails * Math.log(2)));
+    }
+    
+    /**
+     * @return true once every stored email has been added, before that lookups must not rely on the filter
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+    
+    void markLoaded() {
+        loaded = true;
+    }
+    
+    void add(String email) {
+        long[] hashes = hashes(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+    
+    boolean mightContain(String email) {
+        long[] hashes = hashes(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Double hashing: the i-th probe is h1 + i * h2
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+    
+    private static long[] hashes(String email) {
+        byte[] bytes = normalize(email).getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = mix(h2 + (b & 0xff));
+        }
+        return new long[] {mix(h1), mix(h2) | 1};
+    }
+    
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,127 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maps free-text interests, such as those students enter at registration, to research interest ids.
+ * Each comma, semicolon or line separated term resolves to an interest with the same name,
+ * otherwise to interests whose name contains the term as whole words, otherwise to the
+ * closest name within a small edit distance. The name table is loaded lazily and dropped
+ * whenever the taxonomy changes.
+ */
+@Component
+public class InterestResolver {
+    
+    @Autowired
+    private ResearchInterestRepository interestRepository;
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    private volatile NameTable names;
+    
+    /**
+     * @param text the free text, may be null
+     * @return the matching interest ids in order of the terms that produced them
+     */
+    public Set<Long> resolve(String text) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (text == null) {
+            return ids;
+        }
+        NameTable current = names;
+        if (current == null) {
+            current = rebuild();
+        }
+        for (String term : text.split("[,;\\r\\n]+")) {
+            current.resolve(AutocompleteIndex.normalize(term), ids);
+        }
+        return ids;
+    }
+    
+    /**
+     * Drops the name table; called after research interests are written.
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        names = null;
+    }
+    
+    private NameTable rebuild() {
+        long startedAt = generation.get();
+        NameTable rebuilt = new NameTable(interestRepository.findSuggestions());
+        
+        synchronized (this) {
+            if (generation.get() == startedAt) {
+                names = rebuilt;
+            }
+        }
+        return rebuilt;
+    }
+    
+    private static final class NameTable {
+        
+        private final String[] names;
+        private final Long[] ids;
+        private final Map<String, Long> idsByName = new HashMap<>();
+        
+        NameTable(List<SuggestionDTO> interests) {
+            names = new String[interests.size()];
+            ids = new Long[interests.size()];
+            for (int i = 0; i < interests.size(); i++) {
+                names[i] = AutocompleteIndex.normalize(interests.get(i).getLabel());
+                ids[i] = interests.get(i).getId();
+                idsByName.putIfAbsent(names[i], ids[i]);
+            }
+        }
+        
+        void resolve(String term, Set<Long> into) {
+            if (term.isEmpty()) {
+                return;
+            }
+            Long exact = idsByName.get(term);
+            if (exact != null) {
+                into.add(exact);
+                return;
+            }
+            
+            boolean contained = false;
+            if (term.length() >= 4) {
+                String padded = " " + term + " ";
+                for (int i = 0; i < names.length; i++) {
+                    if ((" " + names[i] + " ").contains(padded)) {
+                        into.add(ids[i]);
+                        contained = true;
+                    }
+                }
+            }
+            if (contained) {
+                return;
+            }
+            
+            int bound = LecturerSearchIndex.maxEdits(term.length());
+            int best = -1;
+            for (int i = 0; i < names.length && bound > 0; i++) {
+                if (Math.abs(names[i].length() - term.length()) > bound) {
+                    continue;
+                }
+                int distance = LecturerSearchIndex.editDistance(term, names[i], bound);
+                if (distance <= bound) {
+                    best = i;
+                    bound = distance - 1;
+                }
+            }
+            if (best >= 0) {
+                into.add(ids[best]);
+            }
+        }
+    }
+}
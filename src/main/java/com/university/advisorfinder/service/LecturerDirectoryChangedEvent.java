@@ -0,0 +1,18 @@
+package com.university.advisorfinder.service;
+
+/**
+ * Published after a committed write that changes the public lecturer directory,
+ * either a lecturer itself or the research taxonomy embedded in lecturer DTOs.
+ */
+public class LecturerDirectoryChangedEvent {
+    
+    private final String etag;
+    
+    public LecturerDirectoryChangedEvent(String etag) {
+        this.etag = etag;
+    }
+    
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,130 @@
+package com.university.advisorfinder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the public lecturer directory pre-serialised as UTF-8 JSON and gzip bytes,
+ * so the hot read path is a plain buffer write instead of Jackson serialisation.
+ * The snapshot is rebuilt on a background thread after every directory change;
+ * bursts of writes are coalesced into a single rebuild.
+ */
+@Component
+public class LecturerDirectorySnapshot {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LecturerDirectorySnapshot.class);
+    
+    @Autowired
+    private LecturerService lecturerService;
+    
+    @Autowired
+    private DataVersion dataVersion;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lecturer-directory-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    
+    private volatile Snapshot snapshot;
+    
+    /**
+     * @return the latest snapshot if it reflects the current directory version, otherwise null
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || !current.getEtag().equals(dataVersion.lecturerDirectoryTag())) {
+            return null;
+        }
+        return current;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRefresh();
+    }
+    
+    @EventListener
+    public void onDirectoryChanged(LecturerDirectoryChangedEvent event) {
+        requestRefresh();
+    }
+    
+    void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            executor.execute(this::refresh);
+        }
+    }
+    
+    void refresh() {
+        // Clear the flag first so a write committed during the rebuild schedules another one
+        refreshPending.set(false);
+        try {
+            String etag = dataVersion.lecturerDirectoryTag();
+            List<LecturerPublicDTO> lecturers = lecturerService.loadAllLecturersPublic();
+            byte[] json = objectMapper.writeValueAsBytes(lecturers);
+            snapshot = new Snapshot(etag, json, gzip(json));
+        } catch (RuntimeException | IOException e) {
+            // Requests fall back to regular serialisation until the next successful rebuild
+            logger.warn("Failed to rebuild lecturer directory snapshot", e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(512, data.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        }
+        return buffer.toByteArray();
+    }
+    
+    /**
+     * Immutable serialised directory; callers must not modify the returned arrays.
+     */
+    public static final class Snapshot {
+        
+        private final String etag;
+        private final String gzipEtag;
+        private final byte[] json;
+        private final byte[] gzip;
+        
+        Snapshot(String etag, byte[] json, byte[] gzip) {
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+            this.json = json;
+            this.gzip = gzip;
+        }
+        
+        public String getEtag() { return etag; }
+        
+        public String getGzipEtag() { return gzipEtag; }
+        
+        public byte[] getJson() { return json; }
+        
+        public byte[] getGzip() { return gzip; }
+    }
+}
@@ -0,0 +1,330 @@
+package com.university.advisorfinder.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.advisorfinder.dto.BulkRegistrationRowDTO;
+import com.university.advisorfinder.dto.LecturerImportDTO;
+import com.university.advisorfinder.dto.LecturerImportReportDTO;
+import com.university.advisorfinder.dto.SuggestionDTO;
+import com.university.advisorfinder.model.Lecturer;
+import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a lecturer roster from a JSON array or CSV. The input is parsed one lecturer at a time
+ * and persisted in fixed-size batches, each in its own transaction, so memory stays bounded by the
+ * batch size rather than the roster size. Interest names are resolved through an in-memory table
+ * loaded once per import, and interests are linked by reference without loading them.
+ * Batches are committed as they are reached: if the input turns out to be malformed halfway,
+ * the lecturers before that point stay imported.
+ */
+@Service
+public class LecturerImportService {
+
+    public static final int MAX_ROWS = 100_000;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private ResearchInterestRepository researchInterestRepository;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param json a JSON array of lecturers, research interests given by name
+     * @return the import counts and the rejected rows; row numbers are 1-based array positions
+     * @throws IllegalArgumentException if the JSON is malformed or has too many rows
+     */
+    public LecturerImportReportDTO importFromJson(InputStream json) throws IOException {
+        ImportRun run = new ImportRun(loadInterestIds());
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of lecturers");
+            }
+            int row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                accept(run, ++row, objectMapper.readValue(parser, LecturerImportDTO.class));
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON object for lecturer " + (row + 1));
+            }
+            flushPending(run);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+        } finally {
+            finish(run);
+        }
+        return run.report;
+    }
+
+    /**
+     * Reads lecturers from CSV with a header row naming the lecturer properties, e.g.
+     * firstName,lastName,email,department,researchInterests. Research interests are separated
+     * by semicolons. Unknown columns are ignored.
+     * @param csv the CSV input
+     * @return the import counts and the rejected rows; row numbers are CSV line numbers
+     * @throws IllegalArgumentException if the CSV is malformed or has too many rows
+     */
+    public LecturerImportReportDTO importFromCsv(Reader csv) throws IOException {
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = reader.next();
+        if (header == null) {
+            return new LecturerImportReportDTO();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email")) {
+            throw new IllegalArgumentException("CSV header must contain an email column");
+        }
+
+        ImportRun run = new ImportRun(loadInterestIds());
+        try {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                LecturerImportDTO dto = new LecturerImportDTO();
+                dto.setFirstName(column(record, columns, "firstname"));
+                dto.setLastName(column(record, columns, "lastname"));
+                dto.setEmail(column(record, columns, "email"));
+                dto.setPhone(column(record, columns, "phone"));
+                dto.setTitle(column(record, columns, "title"));
+                dto.setDepartment(column(record, columns, "department"));
+                dto.setOfficeLocation(column(record, columns, "officelocation"));
+                dto.setOfficeHours(column(record, columns, "officehours"));
+                dto.setBio(column(record, columns, "bio"));
+                dto.setProfileImageUrl(column(record, columns, "profileimageurl"));
+                String interests = column(record, columns, "researchinterests");
+                if (interests != null) {
+                    dto.setResearchInterests(new ArrayList<>(Arrays.asList(interests.split(";"))));
+                }
+                accept(run, reader.getLineNumber(), dto);
+            }
+            flushPending(run);
+        } finally {
+            finish(run);
+        }
+        return run.report;
+    }
+
+    private Map<String, Long> loadInterestIds() {
+        Map<String, Long> interestIds = new HashMap<>();
+        for (SuggestionDTO interest : researchInterestRepository.findSuggestions()) {
+            interestIds.put(normalize(interest.getLabel()), interest.getId());
+        }
+        return interestIds;
+    }
+
+    /**
+     * Validates one lecturer and queues it; a full queue is written out as one batch.
+     */
+    private void accept(ImportRun run, int row, LecturerImportDTO dto) {
+        if (++run.rows > MAX_ROWS) {
+            throw new IllegalArgumentException("At most " + MAX_ROWS + " lecturers can be imported at once");
+        }
+        BulkRegistrationRowDTO report = new BulkRegistrationRowDTO(row, dto.getEmail());
+        String error = validate(toLecturer(dto));
+        Set<Long> interestIds = new LinkedHashSet<>();
+        if (error == null && dto.getResearchInterests() != null) {
+            for (String name : dto.getResearchInterests()) {
+                if (name == null || name.trim().isEmpty()) {
+                    continue;
+                }
+                Long interestId = run.interestIds.get(normalize(name));
+                if (interestId == null) {
+                    error = "Unknown research interest: " + name.trim();
+                    break;
+                }
+                interestIds.add(interestId);
+            }
+        }
+        if (error == null && !run.emails.add(normalize(dto.getEmail()))) {
+            error = "Duplicate email in import";
+        }
+        if (error != null) {
+            run.report.rejected(report, error);
+            return;
+        }
+        run.pending.add(new PendingLecturer(dto, interestIds, report));
+        if (run.pending.size() == BATCH_SIZE) {
+            flushPending(run);
+        }
+    }
+
+    private String validate(Lecturer lecturer) {
+        Set<ConstraintViolation<Lecturer>> violations = validator.validate(lecturer);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Rejects queued lecturers whose email is already taken, with one IN query, and inserts the rest.
+     */
+    private void flushPending(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<String> emails = run.pending.stream()
+                .map(pending -> pending.dto.getEmail().trim())
+                .collect(Collectors.toList());
+        Set<String> existing = lecturerRepository.findExistingEmails(emails).stream()
+                .map(LecturerImportService::normalize)
+                .collect(Collectors.toSet());
+        List<PendingLecturer> batch = new ArrayList<>(run.pending.size());
+        for (PendingLecturer pending : run.pending) {
+            if (existing.contains(normalize(pending.dto.getEmail()))) {
+                run.report.rejected(pending.report, "Email already exists");
+            } else {
+                batch.add(pending);
+            }
+        }
+        run.pending.clear();
+        insert(run, batch);
+    }
+
+    /**
+     * Inserts one batch in a single transaction. If the batch fails, for example because a
+     * concurrent registration took an email, its rows are retried one by one so only the
+     * conflicting rows are rejected.
+     */
+    private void insert(ImportRun run, List<PendingLecturer> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch));
+            run.report.created(batch.size());
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                run.report.rejected(batch.get(0).report, "Email already exists");
+                return;
+            }
+            for (PendingLecturer pending : batch) {
+                insert(run, Collections.singletonList(pending));
+            }
+        }
+    }
+
+    private void insertBatch(List<PendingLecturer> batch) {
+        List<Lecturer> lecturers = new ArrayList<>(batch.size());
+        for (PendingLecturer pending : batch) {
+            Lecturer lecturer = toLecturer(pending.dto);
+            for (Long interestId : pending.interestIds) {
+                lecturer.getResearchInterests().add(researchInterestRepository.getReferenceById(interestId));
+            }
+            lecturers.add(lecturer);
+        }
+        lecturerRepository.saveAll(lecturers);
+        // Flush through the repository so constraint violations are translated, then detach the
+        // batch: the persistence context never holds more than one batch of lecturers
+        lecturerRepository.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Refreshes caches, the search index and the directory version once anything was imported.
+     */
+    private void finish(ImportRun run) {
+        if (run.report.getCreated() > 0) {
+            lecturerService.lecturersImported();
+        }
+    }
+
+    private static Lecturer toLecturer(LecturerImportDTO dto) {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setFirstName(dto.getFirstName());
+        lecturer.setLastName(dto.getLastName());
+        lecturer.setEmail(dto.getEmail() == null ? null : dto.getEmail().trim());
+        lecturer.setPhone(dto.getPhone());
+        lecturer.setTitle(dto.getTitle());
+        lecturer.setDepartment(dto.getDepartment());
+        lecturer.setOfficeLocation(dto.getOfficeLocation());
+        lecturer.setOfficeHours(dto.getOfficeHours());
+        lecturer.setBio(dto.getBio());
+        lecturer.setProfileImageUrl(dto.getProfileImageUrl());
+        return lecturer;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class ImportRun {
+        private final Map<String, Long> interestIds;
+        private final Set<String> emails = new HashSet<>();
+        private final List<PendingLecturer> pending = new ArrayList<>(BATCH_SIZE);
+        private final LecturerImportReportDTO report = new LecturerImportReportDTO();
+        private int rows;
+
+        private ImportRun(Map<String, Long> interestIds) {
+            this.interestIds = interestIds;
+        }
+    }
+
+    private static final class PendingLecturer {
+        private final LecturerImportDTO dto;
+        private final Set<Long> interestIds;
+        private final BulkRegistrationRowDTO report;
+
+        private PendingLecturer(LecturerImportDTO dto, Set<Long> interestIds, BulkRegistrationRowDTO report) {
+            this.dto = dto;
+            this.interestIds = interestIds;
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.university.advisorfinder.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort order plus the sort key and id of the last lecturer on a page.
+ * Encoded as URL-safe Base64 so it can be passed back verbatim as a query parameter.
+ */
+final class LecturerPageCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final LecturerSort sort;
+    private final long id;
+    private final String key;
+    
+    LecturerPageCursor(LecturerSort sort, long id, String key) {
+        this.sort = sort;
+        this.id = id;
+        this.key = key;
+    }
+    
+    LecturerSort getSort() { return sort; }
+    
+    long getId() { return id; }
+    
+    /**
+     * @return the sort key of the last lecturer, null for a lecturer without a department
+     */
+    String getKey() { return key; }
+    
+    String encode() {
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + (key == null ? "" : SEPARATOR + key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static LecturerPageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            LecturerSort sort = LecturerSort.valueOf(raw.substring(0, first));
+            long id = Long.parseLong(raw.substring(first + 1, second));
+            String rest = raw.substring(second + 1);
+            String key = rest.isEmpty() ? null : rest.substring(SEPARATOR.length());
+            return new LecturerPageCursor(sort, id, key);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.FacetCountDTO;
+import com.university.advisorfinder.dto.FacetedSearchResultDTO;
+import com.university.advisorfinder.dto.LecturerMatchDTO;
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import com.university.advisorfinder.dto.ResearchInterestDTO;
+import org.springframework.stereotype.Component;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index over the public lecturer directory.
+ * Every lecturer is assigned a dense ordinal; keyword tokens (names, department, research
+ * interest names) and research interest ids map to bitsets of ordinals, so keyword and
+ * interest filters are answered with bitwise AND/OR without touching the database.
+ * Indexed tokens are additionally broken into character trigrams for typo-tolerant lookups.
+ */
+@Component
+public class LecturerSearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final NavigableMap<String, BitSet> tokenPostings = new TreeMap<>();
+
+    private final Map<Long, BitSet> interestPostings = new HashMap<>();
+
+    private final Map<String, Set<String>> tokensByTrigram = new HashMap<>();
+
+    /** Incremented by every write, so a rebuild can tell whether its data is still current. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return the current write generation, to be passed to {@link #rebuild(Collection, long)}
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Marks the index as stale, so it is rebuilt from the database on next use.
+     * Used after bulk writes, where a rebuild is cheaper than indexing each lecturer.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given lecturers.
+     * @param lecturers the full lecturer directory
+     */
+    public void rebuild(Collection<LecturerPublicDTO> lecturers) {
+        lock.writeLock().lock();
+        try {
+            replace(lecturers);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index unless it was written since the lecturers were read.
+     * @param lecturers the full lecturer directory
+     * @param startedAt the generation read before the lecturers were loaded
+     * @return false if the lecturers were discarded because a write happened in between
+     */
+    public boolean rebuild(Collection<LecturerPublicDTO> lecturers, long startedAt) {
+        lock.writeLock().lock();
+        try {
+            if (generation.get() != startedAt) {
+                return false;
+            }
+            replace(lecturers);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a single lecturer, updating only that lecturer's bit in the affected postings.
+     * @param lecturer the lecturer to index
+     */
+    public void put(LecturerPublicDTO lecturer) {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            removeDocument(lecturer.getId());
+            addDocument(lecturer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long lecturerId) {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            removeDocument(lecturerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds lecturers where every keyword token is a prefix of one of their indexed tokens.
+     * @param keyword free-text keyword, may contain several words
+     * @return matching lecturers ordered by id, empty list if none found
+     */
+    public List<LecturerPublicDTO> search(String keyword) {
+        return search(keyword, false);
+    }
+
+    /**
+     * Finds lecturers matching every keyword token. In fuzzy mode a token also matches indexed
+     * tokens within a small edit distance: one edit for 4-7 characters, two from 8 characters.
+     * Candidates come from the trigram postings of the query token and are then verified with a
+     * bounded Levenshtein distance, so only tokens sharing enough trigrams are ever compared.
+     * 
+     * @param keyword free-text keyword, may contain several words
+     * @param fuzzy true to tolerate typos
+     * @return matching lecturers ordered by id, empty list if none found
+     */
+    public List<LecturerPublicDTO> search(String keyword, boolean fuzzy) {
+        List<String> queryTokens = tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            return documents(keywordMatches(queryTokens, fuzzy));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds lecturers by research interest ids.
+     * @param interestIds the research interest ids to match
+     * @param matchAll true to require every interest (AND), false to accept any of them (OR)
+     * @return matching lecturers ordered by id, empty list if none found
+     */
+    public List<LecturerPublicDTO> findByInterests(Collection<Long> interestIds, boolean matchAll) {
+        if (interestIds == null || interestIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (Long interestId : new HashSet<>(interestIds)) {
+                BitSet ordinals = interestPostings.get(interestId);
+                if (ordinals == null) {
+                    if (matchAll) {
+                        return new ArrayList<>();
+                    }
+                    continue;
+                }
+                if (matches == null) {
+                    matches = (BitSet) ordinals.clone();
+                } else if (matchAll) {
+                    matches.and(ordinals);
+                } else {
+                    matches.or(ordinals);
+                }
+            }
+            return matches == null ? new ArrayList<>() : documents(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks lecturers by how well their research interests overlap the requested ones.
+     * Each interest is weighted by its rarity, ln(1 + lecturers / lecturers with the interest),
+     * and a lecturer's score is the share of the total requested weight they cover (0..1].
+     * 
+     * @param interestIds the research interest ids to match
+     * @param limit the maximum number of results
+     * @return the top matches, best first; ties are broken by matched interest count, then id
+     */
+    public List<LecturerMatchDTO> rankByInterests(Collection<Long> interestIds, int limit) {
+        if (interestIds == null || interestIds.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            double[] scores = new double[entries.size()];
+            int[] matched = new int[entries.size()];
+            BitSet candidates = new BitSet(entries.size());
+            double totalWeight = 0;
+            int lecturerCount = ordinalsById.size();
+
+            for (Long interestId : new HashSet<>(interestIds)) {
+                BitSet ordinals = interestPostings.get(interestId);
+                if (ordinals == null) {
+                    continue;
+                }
+                double weight = Math.log(1.0 + (double) lecturerCount / ordinals.cardinality());
+                totalWeight += weight;
+                for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                    scores[ordinal] += weight;
+                    matched[ordinal]++;
+                }
+                candidates.or(ordinals);
+            }
+
+            Comparator<Integer> byRelevance = Comparator.<Integer>comparingDouble(ordinal -> scores[ordinal])
+                    .thenComparingInt(ordinal -> matched[ordinal])
+                    .thenComparing(ordinal -> entries.get(ordinal).document.getId(), Comparator.reverseOrder());
+            // Min-heap of the best candidates seen so far; the weakest is evicted first
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, candidates.cardinality()) + 1, byRelevance);
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                top.offer(ordinal);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<LecturerMatchDTO> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int ordinal = top.poll();
+                results.add(new LecturerMatchDTO(entries.get(ordinal).document, scores[ordinal] / totalWeight, matched[ordinal]));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Combines keyword, department, category and interest filters and counts the matches per
+     * department, category and interest. Filters are applied with the postings, then a single
+     * pass over the matching lecturers collects the documents and all facet counts.
+     * 
+     * @param keyword free-text keyword as in {@link #search(String, boolean)}, null or blank for no filter
+     * @param fuzzy true to tolerate typos in the keyword
+     * @param department exact department name, ignoring case, or null
+     * @param categoryId research category id, or null
+     * @param interestIds research interest ids of which lecturers need any, null or empty for no filter
+     * @return matching lecturers ordered by id with facet counts, most frequent first
+     */
+    public FacetedSearchResultDTO facetedSearch(String keyword, boolean fuzzy, String department,
+                                                Long categoryId, Collection<Long> interestIds) {
+        List<String> queryTokens = tokenize(keyword);
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = new BitSet(entries.size());
+            for (Integer ordinal : ordinalsById.values()) {
+                matches.set(ordinal);
+            }
+            if (!queryTokens.isEmpty()) {
+                matches.and(keywordMatches(queryTokens, fuzzy));
+            }
+            if (interestIds != null && !interestIds.isEmpty()) {
+                BitSet anyInterest = new BitSet(entries.size());
+                for (Long interestId : interestIds) {
+                    BitSet ordinals = interestPostings.get(interestId);
+                    if (ordinals != null) {
+                        anyInterest.or(ordinals);
+                    }
+                }
+                matches.and(anyInterest);
+            }
+
+            List<LecturerPublicDTO> lecturers = new ArrayList<>();
+            Map<String, FacetCountDTO> departments = new HashMap<>();
+            Map<Long, FacetCountDTO> categories = new HashMap<>();
+            Map<Long, FacetCountDTO> interests = new HashMap<>();
+            Set<Long> lecturerCategories = new HashSet<>();
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                LecturerPublicDTO lecturer = entries.get(ordinal).document;
+                if (department != null && !department.equalsIgnoreCase(lecturer.getDepartment())) {
+                    continue;
+                }
+                Collection<ResearchInterestDTO> lecturerInterests = lecturer.getResearchInterests() != null
+                        ? lecturer.getResearchInterests() : Collections.<ResearchInterestDTO>emptySet();
+                lecturerCategories.clear();
+                for (ResearchInterestDTO interest : lecturerInterests) {
+                    if (interest.getCategoryId() != null) {
+                        lecturerCategories.add(interest.getCategoryId());
+                    }
+                }
+                if (categoryId != null && !lecturerCategories.contains(categoryId)) {
+                    continue;
+                }
+
+                lecturers.add(lecturer);
+                if (lecturer.getDepartment() != null) {
+                    count(departments, lecturer.getDepartment().toLowerCase(Locale.ROOT), null, lecturer.getDepartment());
+                }
+                for (ResearchInterestDTO interest : lecturerInterests) {
+                    if (interest.getId() != null) {
+                        count(interests, interest.getId(), interest.getId(), interest.getName());
+                    }
+                    // A lecturer counts once per category, however many of its interests they have
+                    if (interest.getCategoryId() != null && lecturerCategories.remove(interest.getCategoryId())) {
+                        count(categories, interest.getCategoryId(), interest.getCategoryId(), interest.getCategoryName());
+                    }
+                }
+            }
+
+            // Ordinals are reused after removals, so order by id to keep results stable
+            lecturers.sort(Comparator.comparing(LecturerPublicDTO::getId));
+            return new FacetedSearchResultDTO(lecturers, sortedFacets(departments), sortedFacets(categories), sortedFacets(interests));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <K> void count(Map<K, FacetCountDTO> facets, K key, Long id, String label) {
+        FacetCountDTO facet = facets.get(key);
+        if (facet == null) {
+            facets.put(key, new FacetCountDTO(id, label, 1));
+        } else {
+            facet.setCount(facet.getCount() + 1);
+        }
+    }
+
+    private static List<FacetCountDTO> sortedFacets(Map<?, FacetCountDTO> facets) {
+        List<FacetCountDTO> sorted = new ArrayList<>(facets.values());
+        sorted.sort(Comparator.comparingLong(FacetCountDTO::getCount).reversed()
+                .thenComparing(FacetCountDTO::getLabel, Comparator.nullsLast(Comparator.naturalOrder())));
+        return sorted;
+    }
+
+    /**
+     * @return the ordinals of lecturers matching every query token; callers must hold the read lock
+     */
+    private BitSet keywordMatches(List<String> queryTokens, boolean fuzzy) {
+        BitSet matches = null;
+        for (String queryToken : queryTokens) {
+            BitSet tokenMatches = new BitSet(entries.size());
+            for (BitSet ordinals : tokenPostings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, true).values()) {
+                tokenMatches.or(ordinals);
+            }
+            if (fuzzy) {
+                for (String token : similarTokens(queryToken)) {
+                    tokenMatches.or(tokenPostings.get(token));
+                }
+            }
+            if (matches == null) {
+                matches = tokenMatches;
+            } else {
+                matches.and(tokenMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private List<String> similarTokens(String queryToken) {
+        int maxEdits = maxEdits(queryToken.length());
+        if (maxEdits == 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> queryTrigrams = trigrams(queryToken);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> tokens = tokensByTrigram.get(trigram);
+            if (tokens != null) {
+                for (String token : tokens) {
+                    sharedTrigrams.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+
+        // Each edit destroys at most three trigrams of the query token
+        int minShared = queryTrigrams.size() - 3 * maxEdits;
+        List<String> similar = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : sharedTrigrams.entrySet()) {
+            String token = candidate.getKey();
+            if (candidate.getValue() >= minShared
+                    && Math.abs(token.length() - queryToken.length()) <= maxEdits
+                    && editDistance(queryToken, token, maxEdits) <= maxEdits) {
+                similar.add(token);
+            }
+        }
+        return similar;
+    }
+
+    static int maxEdits(int length) {
+        if (length < 4) {
+            return 0;
+        }
+        return length < 8 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance, abandoning the computation once it must exceed the bound.
+     * @return the distance, or bound + 1 if it is larger than the bound
+     */
+    static int editDistance(String a, String b, int bound) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+
+    /**
+     * Trigrams of the token padded with start and end markers, so "data" yields ^da, dat, ata, ta$.
+     */
+    static Set<String> trigrams(String token) {
+        String padded = "^" + token + "$";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private List<LecturerPublicDTO> documents(BitSet ordinals) {
+        List<LecturerPublicDTO> results = new ArrayList<>(ordinals.cardinality());
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            results.add(entries.get(ordinal).document);
+        }
+        // Ordinals are reused after removals, so order by id to keep results stable
+        results.sort(Comparator.comparing(LecturerPublicDTO::getId));
+        return results;
+    }
+
+    private void replace(Collection<LecturerPublicDTO> lecturers) {
+        ordinalsById.clear();
+        entries.clear();
+        freeOrdinals.clear();
+        tokenPostings.clear();
+        interestPostings.clear();
+        tokensByTrigram.clear();
+        for (LecturerPublicDTO lecturer : lecturers) {
+            addDocument(lecturer);
+        }
+        loaded = true;
+    }
+
+    private void addDocument(LecturerPublicDTO lecturer) {
+        Set<String> tokens = new HashSet<>();
+        Set<Long> interestIds = new HashSet<>();
+        tokens.addAll(tokenize(lecturer.getFirstName()));
+        tokens.addAll(tokenize(lecturer.getLastName()));
+        tokens.addAll(tokenize(lecturer.getDepartment()));
+        if (lecturer.getResearchInterests() != null) {
+            for (ResearchInterestDTO interest : lecturer.getResearchInterests()) {
+                tokens.addAll(tokenize(interest.getName()));
+                if (interest.getId() != null) {
+                    interestIds.add(interest.getId());
+                }
+            }
+        }
+
+        int ordinal;
+        Entry entry = new Entry(lecturer, tokens, interestIds);
+        if (freeOrdinals.isEmpty()) {
+            ordinal = entries.size();
+            entries.add(entry);
+        } else {
+            ordinal = freeOrdinals.pop();
+            entries.set(ordinal, entry);
+        }
+        ordinalsById.put(lecturer.getId(), ordinal);
+
+        for (String token : tokens) {
+            BitSet ordinals = tokenPostings.get(token);
+            if (ordinals == null) {
+                ordinals = new BitSet();
+                tokenPostings.put(token, ordinals);
+                for (String trigram : trigrams(token)) {
+                    tokensByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(token);
+                }
+            }
+            ordinals.set(ordinal);
+        }
+        for (Long interestId : interestIds) {
+            interestPostings.computeIfAbsent(interestId, id -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void removeDocument(Long lecturerId) {
+        Integer ordinal = ordinalsById.remove(lecturerId);
+        if (ordinal == null) {
+            return;
+        }
+        Entry entry = entries.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+
+        for (String token : entry.tokens) {
+            if (clear(tokenPostings, token, ordinal)) {
+                for (String trigram : trigrams(token)) {
+                    Set<String> tokens = tokensByTrigram.get(trigram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        tokensByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+        for (Long interestId : entry.interestIds) {
+            clear(interestPostings, interestId, ordinal);
+        }
+    }
+
+    /**
+     * @return true if the posting list became empty and was removed
+     */
+    private static <K> boolean clear(Map<K, BitSet> postings, K key, int ordinal) {
+        BitSet ordinals = postings.get(key);
+        if (ordinals != null) {
+            ordinals.clear(ordinal);
+            if (ordinals.isEmpty()) {
+                postings.remove(key);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits text into lower-case alphanumeric tokens.
+     * @param text the text to tokenize, may be null
+     * @return the tokens in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Entry {
+        private final LecturerPublicDTO document;
+        private final Set<String> tokens;
+        private final Set<Long> interestIds;
+
+        private Entry(LecturerPublicDTO document, Set<String> tokens, Set<Long> interestIds) {
+            this.document = document;
+            this.tokens = tokens;
+            this.interestIds = interestIds;
+        }
+    }
+}
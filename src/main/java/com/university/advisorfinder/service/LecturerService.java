@@ -1,63 +1,362 @@
 package com.university.advisorfinder.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.config.PrimaryReadTemplate;
+import com.university.advisorfinder.dto.FacetedSearchResultDTO;
 import com.university.advisorfinder.dto.LecturerContactDTO;
+import com.university.advisorfinder.dto.LecturerMatchDTO;
+import com.university.advisorfinder.dto.LecturerPageDTO;
 import com.university.advisorfinder.dto.LecturerPublicDTO;
 import com.university.advisorfinder.dto.ResearchInterestDTO;
 import com.university.advisorfinder.model.Lecturer;
 import com.university.advisorfinder.model.ResearchInterest;
 import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.repository.LecturerSpecifications;
 import com.university.advisorfinder.repository.ResearchInterestRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.university.advisorfinder.service.TransactionCallbacks.afterCommit;
+
+/**
+ * Lecturer directory reads and writes. Methods run in read-only transactions unless annotated
+ * otherwise, so Hibernate keeps no snapshots, skips dirty checking and never flushes, and the
+ * transaction may be served by the read replica.
+ */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class LecturerService {
     
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @Autowired
     private LecturerRepository lecturerRepository;
     
     @Autowired
     private ResearchInterestRepository researchInterestRepository;
     
+    @Autowired
+    private LecturerSearchIndex searchIndex;
+    
+    @Autowired
+    private AutocompleteService autocompleteService;
+    
+    @Autowired
+    private DataVersion dataVersion;
+    
+    @Autowired
+    private InterestResolver interestResolver;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private PrimaryReadTemplate primaryReadTemplate;
+    
+    private final Object searchIndexLoadLock = new Object();
+    
+    @Cacheable(CacheConfig.PUBLIC_LECTURERS)
     public List<LecturerPublicDTO> getAllLecturersPublic() {
-        return lecturerRepository.findAll().stream()
+        return loadAllLecturersPublic();
+    }
+    
+    /**
+     * Loads the public directory from the primary database, bypassing the cache. Used to build
+     * views derived from the directory, which must never be built from a cached or lagging copy.
+     */
+    public List<LecturerPublicDTO> loadAllLecturersPublic() {
+        return primaryReadTemplate.execute(() -> lecturerRepository.findAllWithResearchInterests().stream()
                 .map(this::convertToPublicDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Returns one keyset page of the public directory.
+     * 
+     * @param sort the sort order, must match the order the cursor was issued for
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param size the requested page size, capped at MAX_PAGE_SIZE
+     * @return the page and the cursor for the following page
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort order
+     */
+    public LecturerPageDTO getLecturersPublicPage(LecturerSort sort, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LecturerPageCursor after = cursor == null || cursor.isEmpty()
+                ? firstPageCursor(sort)
+                : LecturerPageCursor.decode(cursor);
+        if (after.getSort() != sort) {
+            throw new IllegalArgumentException("Cursor was issued for sort order " + after.getSort());
+        }
+        
+        // Fetch one extra id to learn whether another page follows
+        List<Long> ids = findPageIds(after, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        
+        Map<Long, Lecturer> lecturersById = lecturerRepository.findAllWithResearchInterestsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Lecturer::getId, Function.identity()));
+        List<LecturerPublicDTO> lecturers = new ArrayList<>(pageIds.size());
+        Lecturer last = null;
+        for (Long id : pageIds) {
+            Lecturer lecturer = lecturersById.get(id);
+            if (lecturer != null) {
+                lecturers.add(convertToPublicDTO(lecturer));
+                last = lecturer;
+            }
+        }
+        
+        String nextCursor = hasNext && last != null
+                ? new LecturerPageCursor(sort, last.getId(), sortKey(sort, last)).encode()
+                : null;
+        return new LecturerPageDTO(lecturers, nextCursor, pageSize, sort.name());
     }
     
+    /**
+     * Writes the public directory as newline-delimited JSON, one lecturer per line.
+     * Lecturer ids are read from a cursor in chunks; each chunk's lecturers are loaded with their
+     * research interests in a single query and the persistence context is cleared afterwards, so
+     * every row is read once and memory stays flat regardless of directory size.
+     * 
+     * @param out the stream to write to, flushed after every chunk and left open
+     * @throws IOException if writing to the stream fails
+     */
+    public void exportLecturersPublic(OutputStream out) throws IOException {
+        try (Stream<Long> ids = lecturerRepository.streamAllIdsOrderById()) {
+            List<Long> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    writeExportChunk(chunk, out);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+    
+    private void writeExportChunk(List<Long> ids, OutputStream out) throws IOException {
+        Map<Long, Lecturer> lecturersById = lecturerRepository.findAllWithResearchInterestsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Lecturer::getId, Function.identity()));
+        for (Long id : ids) {
+            Lecturer lecturer = lecturersById.get(id);
+            if (lecturer != null) {
+                out.write(objectMapper.writeValueAsBytes(convertToPublicDTO(lecturer)));
+                out.write('\n');
+            }
+        }
+        out.flush();
+        entityManager.clear();
+    }
+    
+    private LecturerPageCursor firstPageCursor(LecturerSort sort) {
+        // Ids are positive and last names are never blank, so these keys precede every row
+        return new LecturerPageCursor(sort, 0L, sort == LecturerSort.LAST_NAME ? "" : null);
+    }
+    
+    private List<Long> findPageIds(LecturerPageCursor after, Pageable limit) {
+        switch (after.getSort()) {
+            case LAST_NAME:
+                return lecturerRepository.findPageIdsOrderByLastName(after.getKey(), after.getId(), limit);
+            case DEPARTMENT:
+                return after.getKey() == null
+                        ? lecturerRepository.findPageIdsOrderByDepartmentAfterNull(after.getId(), limit)
+                        : lecturerRepository.findPageIdsOrderByDepartment(after.getKey(), after.getId(), limit);
+            default:
+                return lecturerRepository.findPageIdsOrderById(after.getId(), limit);
+        }
+    }
+    
+    private String sortKey(LecturerSort sort, Lecturer lecturer) {
+        switch (sort) {
+            case LAST_NAME:
+                return lecturer.getLastName();
+            case DEPARTMENT:
+                return lecturer.getDepartment();
+            default:
+                return null;
+        }
+    }
+    
+    @Cacheable(CacheConfig.LECTURER_CONTACTS)
     public Optional<LecturerContactDTO> getLecturerContact(Long id) {
-        return lecturerRepository.findById(id)
-                .map(this::convertToContactDTO);
+        return primaryReadTemplate.execute(() -> lecturerRepository.findById(id)
+                .map(this::convertToContactDTO));
+    }
+    
+    /**
+     * Loads the contact details of several lecturers, taking cached contacts from the
+     * contact cache and loading the rest from the primary with a single query.
+     * @param ids the lecturer ids, at most MAX_PAGE_SIZE distinct ids
+     * @return contacts in the requested order; unknown ids are skipped
+     */
+    public List<LecturerContactDTO> getLecturerContacts(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " lecturer ids can be requested at once");
+        }
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Cache contactCache = cacheManager.getCache(CacheConfig.LECTURER_CONTACTS);
+        Map<Long, LecturerContactDTO> contactsById = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Cache.ValueWrapper cached = contactCache != null ? contactCache.get(id) : null;
+            if (cached == null) {
+                missingIds.add(id);
+            } else if (cached.get() != null) {
+                contactsById.put(id, (LecturerContactDTO) cached.get());
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            for (LecturerContactDTO contact : primaryReadTemplate.execute(() -> lecturerRepository.findContactsByIdIn(missingIds))) {
+                contactsById.put(contact.getId(), contact);
+                if (contactCache != null) {
+                    contactCache.put(contact.getId(), contact);
+                }
+            }
+        }
+        
+        List<LecturerContactDTO> contacts = new ArrayList<>(contactsById.size());
+        for (Long id : distinctIds) {
+            LecturerContactDTO contact = contactsById.get(id);
+            if (contact != null) {
+                contacts.add(contact);
+            }
+        }
+        return contacts;
     }
     
     public List<LecturerPublicDTO> searchLecturersByKeyword(String keyword) {
-        return lecturerRepository.searchByKeyword(keyword).stream()
-                .map(this::convertToPublicDTO)
-                .collect(Collectors.toList());
+        return searchLecturersByKeyword(keyword, false);
+    }
+    
+    /**
+     * Searches names, departments and research interest names.
+     * @param keyword the keyword, every word of which must match
+     * @param fuzzy true to also match words within a small edit distance, e.g. "Artifical"
+     * @return matching lecturers ordered by id
+     */
+    public List<LecturerPublicDTO> searchLecturersByKeyword(String keyword, boolean fuzzy) {
+        return loadedSearchIndex().search(keyword, fuzzy);
     }
     
     public List<LecturerPublicDTO> findLecturersByResearchInterests(List<Long> interestIds) {
-        return lecturerRepository.findByResearchInterestIds(interestIds).stream()
-                .map(this::convertToPublicDTO)
-                .collect(Collectors.toList());
+        return findLecturersByResearchInterests(interestIds, false);
+    }
+    
+    /**
+     * Finds lecturers by research interest ids using the in-memory interest bitsets.
+     * @param interestIds the research interest ids to match
+     * @param matchAll true to require all interests, false to match any of them
+     * @return matching lecturers ordered by id
+     */
+    public List<LecturerPublicDTO> findLecturersByResearchInterests(List<Long> interestIds, boolean matchAll) {
+        return loadedSearchIndex().findByInterests(interestIds, matchAll);
+    }
+    
+    /**
+     * Ranks lecturers by overlap with the given research interests, rarer interests weighing more.
+     * @param interestIds the research interest ids to match
+     * @param limit the maximum number of results, capped at MAX_PAGE_SIZE
+     * @return the best matches with their scores, best first
+     */
+    public List<LecturerMatchDTO> rankLecturersByResearchInterests(List<Long> interestIds, int limit) {
+        return loadedSearchIndex().rankByInterests(interestIds, Math.min(limit, MAX_PAGE_SIZE));
+    }
+    
+    /**
+     * Filters the directory by any combination of keyword, department, category and interests
+     * and returns the matches with facet counts, all from the in-memory index.
+     * @param keyword free-text keyword, may be null
+     * @param fuzzy true to tolerate typos in the keyword
+     * @param department exact department name, ignoring case, may be null
+     * @param categoryId research category id, may be null
+     * @param interestIds research interest ids of which lecturers need any, may be null
+     * @return matching lecturers ordered by id with department, category and interest counts
+     */
+    public FacetedSearchResultDTO facetedSearch(String keyword, boolean fuzzy, String department,
+                                                Long categoryId, List<Long> interestIds) {
+        return loadedSearchIndex().facetedSearch(keyword, fuzzy, department, categoryId, interestIds);
+    }
+    
+    /**
+     * Recommends advisors for free-text interests such as Student.interests,
+     * resolved to research interests and ranked entirely in memory.
+     * @param interests comma, semicolon or line separated interests, may be null
+     * @param limit the maximum number of results, capped at MAX_PAGE_SIZE
+     * @return the best matches with their scores, best first; empty if nothing resolves
+     */
+    public List<LecturerMatchDTO> recommendLecturers(String interests, int limit) {
+        Set<Long> interestIds = interestResolver.resolve(interests);
+        if (interestIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return rankLecturersByResearchInterests(new ArrayList<>(interestIds), limit);
     }
     
+    @Cacheable(CacheConfig.LECTURERS_BY_CATEGORY)
     public List<LecturerPublicDTO> findLecturersByCategory(Long categoryId) {
-        return lecturerRepository.findByResearchCategoryId(categoryId).stream()
+        return primaryReadTemplate.execute(() -> lecturerRepository.findByResearchCategoryId(categoryId).stream()
                 .map(this::convertToPublicDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
     
+    @Cacheable(CacheConfig.LECTURERS_BY_DEPARTMENT)
     public List<LecturerPublicDTO> findLecturersByDepartment(String department) {
-        return lecturerRepository.findByDepartmentContainingIgnoreCase(department).stream()
+        return primaryReadTemplate.execute(() -> lecturerRepository.findByDepartmentContainingIgnoreCase(department).stream()
+                .map(this::convertToPublicDTO)
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Filters lecturers by any combination of criteria with a single statement.
+     * @param department text contained in the department, ignoring case, may be null
+     * @param categoryId research category id, may be null
+     * @param interestIds research interest ids of which lecturers need any, may be null
+     * @param keyword text contained in a name, the department or an interest name, may be null
+     * @return matching lecturers ordered by last name, then id
+     */
+    public List<LecturerPublicDTO> filterLecturers(String department, Long categoryId,
+                                                   List<Long> interestIds, String keyword) {
+        return lecturerRepository.findAll(
+                    LecturerSpecifications.filter(department, categoryId, interestIds, keyword),
+                    Sort.by("lastName", "id")).stream()
                 .map(this::convertToPublicDTO)
                 .collect(Collectors.toList());
     }
@@ -105,8 +404,37 @@ public class LecturerService {
         }
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.PUBLIC_LECTURERS, CacheConfig.LECTURERS_BY_CATEGORY,
+            CacheConfig.LECTURERS_BY_DEPARTMENT, CacheConfig.LECTURER_CONTACTS, CacheConfig.RESEARCH_TREE}, allEntries = true)
     public Lecturer saveLecturer(Lecturer lecturer) {
-        return lecturerRepository.save(lecturer);
+        Lecturer saved = lecturerRepository.save(lecturer);
+        LecturerPublicDTO indexed = convertToPublicDTO(saved);
+        // The index write also discards any rebuild still reading the directory from before this write
+        afterCommit(() -> searchIndex.put(indexed), autocompleteService::invalidate, dataVersion::lecturersChanged);
+        return saved;
+    }
+    
+    /**
+     * Refreshes every view of the lecturer directory after a bulk import.
+     */
+    @CacheEvict(cacheNames = {CacheConfig.PUBLIC_LECTURERS, CacheConfig.LECTURERS_BY_CATEGORY,
+            CacheConfig.LECTURERS_BY_DEPARTMENT, CacheConfig.LECTURER_CONTACTS, CacheConfig.RESEARCH_TREE}, allEntries = true)
+    public void lecturersImported() {
+        afterCommit(searchIndex::invalidate, autocompleteService::invalidate, dataVersion::lecturersChanged);
+    }
+    
+    /**
+     * Drops the cached lecturer views and the search index once a taxonomy change has committed:
+     * both embed research interest and category names.
+     */
+    public void taxonomyChanged() {
+        for (String cacheName : new String[] {CacheConfig.PUBLIC_LECTURERS, CacheConfig.LECTURERS_BY_CATEGORY,
+                CacheConfig.LECTURERS_BY_DEPARTMENT, CacheConfig.LECTURER_CONTACTS}) {
+            // Immediate, unlike evict/clear, which the transaction-aware caches would defer
+            cacheManager.getCache(cacheName).invalidate();
+        }
+        searchIndex.invalidate();
     }
     
     public Optional<Lecturer> findById(Long id) {
@@ -117,8 +445,29 @@ public class LecturerService {
         return lecturerRepository.findByEmail(email);
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.PUBLIC_LECTURERS, CacheConfig.LECTURERS_BY_CATEGORY,
+            CacheConfig.LECTURERS_BY_DEPARTMENT, CacheConfig.LECTURER_CONTACTS, CacheConfig.RESEARCH_TREE}, allEntries = true)
     public void deleteLecturer(Long id) {
         lecturerRepository.deleteById(id);
+        afterCommit(() -> searchIndex.remove(id), autocompleteService::invalidate, dataVersion::lecturersChanged);
+    }
+    
+    /**
+     * Returns the search index, building it from the database on first use. One caller rebuilds
+     * while the others wait; a rebuild that raced a write is discarded and loaded again.
+     * @return the loaded search index
+     */
+    private LecturerSearchIndex loadedSearchIndex() {
+        while (!searchIndex.isLoaded()) {
+            synchronized (searchIndexLoadLock) {
+                if (!searchIndex.isLoaded()) {
+                    long startedAt = searchIndex.generation();
+                    searchIndex.rebuild(loadAllLecturersPublic(), startedAt);
+                }
+            }
+        }
+        return searchIndex;
     }
     
     private LecturerPublicDTO convertToPublicDTO(Lecturer lecturer) {
@@ -159,10 +508,12 @@ public class LecturerService {
             interest.getId(),
             interest.getName(),
             interest.getDescription(),
-            interest.getCategory().getName()
+            interest.getCategory() != null ? interest.getCategory().getName() : null,
+            interest.getCategory() != null ? interest.getCategory().getId() : null
         );
     }
     
+    @Transactional
     public void initializeSampleLecturers() {
         if (lecturerRepository.count() == 0) {
             createSampleLecturers();
@@ -0,0 +1,32 @@
+package com.university.advisorfinder.service;
+
+import java.util.Locale;
+
+/**
+ * Stable sort orders for paging through the lecturer directory.
+ * Every order ends with the lecturer id so that keyset cursors are unambiguous.
+ */
+public enum LecturerSort {
+    LAST_NAME,
+    DEPARTMENT,
+    ID;
+    
+    /**
+     * Resolves a request parameter such as "lastName", "last_name" or "department".
+     * @param value the parameter value, may be null
+     * @return the matching sort order, LAST_NAME if value is null or blank
+     * @throws IllegalArgumentException if the value does not name a sort order
+     */
+    public static LecturerSort fromParameter(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return LAST_NAME;
+        }
+        String normalized = value.trim().replace("_", "").toUpperCase(Locale.ROOT);
+        for (LecturerSort sort : values()) {
+            if (sort.name().replace("_", "").equals(normalized)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort order: " + value);
+    }
+}
@@ -1,17 +1,33 @@
 package com.university.advisorfinder.service;
 
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.config.PrimaryReadTemplate;
+import com.university.advisorfinder.dto.ResearchCategoryNodeDTO;
+import com.university.advisorfinder.dto.ResearchInterestNodeDTO;
+import com.university.advisorfinder.dto.ResearchTreeRowDTO;
 import com.university.advisorfinder.model.ResearchCategory;
 import com.university.advisorfinder.model.ResearchInterest;
 import com.university.advisorfinder.repository.ResearchCategoryRepository;
 import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static com.university.advisorfinder.service.TransactionCallbacks.afterCommit;
+
+/**
+ * Research taxonomy reads and writes. Methods run in read-only transactions unless annotated otherwise.
+ */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class ResearchService {
     
     @Autowired
@@ -20,6 +36,24 @@ public class ResearchService {
     @Autowired
     private ResearchInterestRepository interestRepository;
     
+    @Autowired
+    private AutocompleteService autocompleteService;
+    
+    @Autowired
+    private DataVersion dataVersion;
+    
+    @Autowired
+    private InterestResolver interestResolver;
+    
+    @Autowired
+    private LecturerService lecturerService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PrimaryReadTemplate primaryReadTemplate;
+    
     // Category methods
     public List<ResearchCategory> getAllCategories() {
         return categoryRepository.findAll();
@@ -29,8 +63,44 @@ public class ResearchService {
         return categoryRepository.findById(id);
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_TREE, allEntries = true)
     public ResearchCategory saveCategory(ResearchCategory category) {
-        return categoryRepository.save(category);
+        ResearchCategory saved = categoryRepository.save(category);
+        taxonomyChanged();
+        return saved;
+    }
+    
+    /**
+     * Builds the whole taxonomy, categories with their interests and per-interest lecturer counts,
+     * from a single aggregate query. The immutable result is cached until the taxonomy or a
+     * lecturer changes. It is read from the primary, since it is served under the post-write version.
+     * @return categories ordered by name, each with its interests ordered by name
+     */
+    @Cacheable(CacheConfig.RESEARCH_TREE)
+    public List<ResearchCategoryNodeDTO> getResearchTree() {
+        List<ResearchCategoryNodeDTO> categories = new ArrayList<>();
+        List<ResearchInterestNodeDTO> interests = new ArrayList<>();
+        ResearchTreeRowDTO category = null;
+        for (ResearchTreeRowDTO row : primaryReadTemplate.execute(categoryRepository::findTreeRows)) {
+            if (category != null && !category.getCategoryId().equals(row.getCategoryId())) {
+                categories.add(categoryNode(category, interests));
+                interests.clear();
+            }
+            category = row;
+            if (row.getInterestId() != null) {
+                interests.add(new ResearchInterestNodeDTO(
+                    row.getInterestId(), row.getInterestName(), row.getInterestDescription(), row.getLecturerCount()));
+            }
+        }
+        if (category != null) {
+            categories.add(categoryNode(category, interests));
+        }
+        return Collections.unmodifiableList(categories);
+    }
+    
+    private static ResearchCategoryNodeDTO categoryNode(ResearchTreeRowDTO row, List<ResearchInterestNodeDTO> interests) {
+        return new ResearchCategoryNodeDTO(row.getCategoryId(), row.getCategoryName(), row.getCategoryDescription(), interests);
     }
     
     // Interest methods
@@ -50,10 +120,16 @@ public class ResearchService {
         return interestRepository.findById(id);
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_TREE, allEntries = true)
     public ResearchInterest saveInterest(ResearchInterest interest) {
-        return interestRepository.save(interest);
+        ResearchInterest saved = interestRepository.save(interest);
+        taxonomyChanged();
+        return saved;
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_TREE, allEntries = true)
     public ResearchInterest findOrCreateInterest(String name, String description) {
         Optional<ResearchInterest> existing = interestRepository.findByName(name);
         if (existing.isPresent()) {
@@ -63,7 +139,9 @@ public class ResearchService {
         // Create new interest with default category if no category exists
         ResearchCategory defaultCategory = getOrCreateDefaultCategory();
         ResearchInterest newInterest = new ResearchInterest(name, description, defaultCategory);
-        return interestRepository.save(newInterest);
+        ResearchInterest saved = interestRepository.save(newInterest);
+        taxonomyChanged();
+        return saved;
     }
     
     private ResearchCategory getOrCreateDefaultCategory() {
@@ -73,16 +151,37 @@ public class ResearchService {
         }
         
         ResearchCategory general = new ResearchCategory("General", "General Research Interests");
-        return categoryRepository.save(general);
+        ResearchCategory saved = categoryRepository.save(general);
+        taxonomyChanged();
+        return saved;
     }
     
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RESEARCH_TREE, allEntries = true)
     public void initializeDefaultData() {
         if (categoryRepository.count() == 0) {
             // Create default categories and interests
             createDefaultCategories();
+            taxonomyChanged();
         }
     }
     
+    /**
+     * Refreshes in-memory views of the taxonomy once the current transaction commits.
+     * Interests are saved from their owning side, which Hibernate does not reflect in the cached
+     * ResearchCategory.researchInterests collections, so those are evicted here. Lecturer views are
+     * dropped before the directory version moves, so the new version is never served stale data.
+     */
+    private void taxonomyChanged() {
+        afterCommit(
+            () -> entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                    .evictCollectionData(ResearchCategory.class.getName() + ".researchInterests"),
+            lecturerService::taxonomyChanged,
+            autocompleteService::invalidate,
+            interestResolver::invalidate,
+            dataVersion::taxonomyChanged);
+    }
+    
     private void createDefaultCategories() {
         // Engineering
         ResearchCategory engineering = new ResearchCategory("Engineering", "Engineering and Technology Fields");
@@ -0,0 +1,332 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.config.PasswordConfig;
+import com.university.advisorfinder.dto.BulkRegistrationReportDTO;
+import com.university.advisorfinder.dto.BulkRegistrationRowDTO;
+import com.university.advisorfinder.dto.StudentRegistrationDTO;
+import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Registers many students in one request. Rows are validated in memory, duplicates are
+ * found with set-based IN queries, passwords are hashed in parallel on the password hashing
+ * pool, and accepted rows are inserted as batched statements. Every row gets a result in the report.
+ */
+@Service
+public class StudentBulkRegistrationService {
+    
+    public static final int MAX_ROWS = 10_000;
+    
+    private static final int INSERT_BATCH_SIZE = 500;
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private StudentService studentService;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    @Qualifier(PasswordConfig.PASSWORD_HASHING_EXECUTOR)
+    private Executor passwordHashingExecutor;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    /**
+     * One upload hashes at a time, so bulk uploads together never keep more than one hash per
+     * hashing thread on the shared pool, leaving the rest of its queue to single registrations.
+     */
+    private final Semaphore bulkHashingPermit = new Semaphore(1);
+    
+    /**
+     * Reads registrations from CSV with a header row naming the StudentRegistrationDTO properties,
+     * e.g. firstName,lastName,email,password,studentId. Unknown columns are ignored.
+     * @param csv the CSV input
+     * @return the per-row report; row numbers are CSV line numbers
+     * @throws IllegalArgumentException if the CSV is malformed or has too many rows
+     */
+    public BulkRegistrationReportDTO registerStudentsFromCsv(Reader csv) throws IOException {
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = reader.next();
+        if (header == null) {
+            return new BulkRegistrationReportDTO(new ArrayList<>());
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email")) {
+            throw new IllegalArgumentException("CSV header must contain an email column");
+        }
+        
+        List<StudentRegistrationDTO> registrations = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (registrations.size() == MAX_ROWS) {
+                throw new IllegalArgumentException("At most " + MAX_ROWS + " students can be registered at once");
+            }
+            StudentRegistrationDTO dto = new StudentRegistrationDTO();
+            dto.setFirstName(column(record, columns, "firstname"));
+            dto.setLastName(column(record, columns, "lastname"));
+            dto.setEmail(column(record, columns, "email"));
+            dto.setPhone(column(record, columns, "phone"));
+            dto.setStudentId(column(record, columns, "studentid"));
+            dto.setProgram(column(record, columns, "program"));
+            dto.setYearOfStudy(column(record, columns, "yearofstudy"));
+            dto.setInterests(column(record, columns, "interests"));
+            dto.setPassword(column(record, columns, "password"));
+            registrations.add(dto);
+            lineNumbers.add(reader.getLineNumber());
+        }
+        return register(registrations, lineNumbers);
+    }
+    
+    /**
+     * @param registrations the students to register
+     * @return the per-row report; row numbers are 1-based positions in the list
+     * @throws IllegalArgumentException if there are more than MAX_ROWS registrations
+     */
+    public BulkRegistrationReportDTO registerStudents(List<StudentRegistrationDTO> registrations) {
+        if (registrations.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("At most " + MAX_ROWS + " students can be registered at once");
+        }
+        List<Integer> rowNumbers = new ArrayList<>(registrations.size());
+        for (int i = 1; i <= registrations.size(); i++) {
+            rowNumbers.add(i);
+        }
+        return register(registrations, rowNumbers);
+    }
+    
+    private BulkRegistrationReportDTO register(List<StudentRegistrationDTO> registrations, List<Integer> rowNumbers) {
+        List<BulkRegistrationRowDTO> report = new ArrayList<>(registrations.size());
+        List<PendingRow> pending = new ArrayList<>();
+        Set<String> emailsInUpload = new HashSet<>();
+        Set<String> studentIdsInUpload = new HashSet<>();
+        
+        for (int i = 0; i < registrations.size(); i++) {
+            StudentRegistrationDTO dto = registrations.get(i);
+            BulkRegistrationRowDTO row = new BulkRegistrationRowDTO(rowNumbers.get(i), dto == null ? null : dto.getEmail());
+            report.add(row);
+            if (dto == null) {
+                row.rejected("Empty row");
+                continue;
+            }
+            String error = validate(dto);
+            if (error != null) {
+                row.rejected(error);
+            } else if (!emailsInUpload.add(normalize(dto.getEmail()))) {
+                row.rejected("Duplicate email in upload");
+            } else if (dto.getStudentId() != null && !studentIdsInUpload.add(dto.getStudentId())) {
+                row.rejected("Duplicate student ID in upload");
+            } else {
+                pending.add(new PendingRow(dto, row));
+            }
+        }
+        
+        rejectExisting(pending);
+        hashPasswords(pending);
+        for (int from = 0; from < pending.size(); from += INSERT_BATCH_SIZE) {
+            insert(pending.subList(from, Math.min(from + INSERT_BATCH_SIZE, pending.size())));
+        }
+        return new BulkRegistrationReportDTO(report);
+    }
+    
+    private String validate(StudentRegistrationDTO dto) {
+        Set<ConstraintViolation<StudentRegistrationDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Rejects rows whose email or student ID is already registered, with one IN query per chunk.
+     */
+    private void rejectExisting(List<PendingRow> pending) {
+        Set<String> existingEmails = new HashSet<>();
+        Set<String> existingStudentIds = new HashSet<>();
+        for (int from = 0; from < pending.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<PendingRow> chunk = pending.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, pending.size()));
+            List<String> emails = new ArrayList<>();
+            List<String> studentIds = new ArrayList<>();
+            for (PendingRow row : chunk) {
+                emails.add(normalize(row.dto.getEmail()));
+                if (row.dto.getStudentId() != null) {
+                    studentIds.add(row.dto.getStudentId());
+                }
+            }
+            existingEmails.addAll(studentRepository.findExistingEmails(emails));
+            if (!studentIds.isEmpty()) {
+                existingStudentIds.addAll(studentRepository.findExistingStudentIds(studentIds));
+            }
+        }
+        
+        pending.removeIf(row -> {
+            if (existingEmails.contains(normalize(row.dto.getEmail()))) {
+                row.report.rejected("Email already exists");
+                return true;
+            }
+            if (row.dto.getStudentId() != null && existingStudentIds.contains(row.dto.getStudentId())) {
+                row.report.rejected("Student ID already exists");
+                return true;
+            }
+            return false;
+        });
+    }
+    
+    /**
+     * Hashes all passwords on the password hashing pool. The rows are split into one lane per
+     * hashing thread; each lane is a chain of single-row tasks that is resubmitted after every
+     * hash, so single registrations queued meanwhile are interleaved with the upload. Every lane is
+     * submitted at once and the calling thread only waits for all of them to finish, which takes
+     * about rows / cores BCrypt rounds: roughly a minute for MAX_ROWS rows on 8 cores.
+     * @throws RejectedExecutionException if another upload is hashing, or single registrations
+     *         have filled the pool's queue; nothing has been inserted at that point
+     */
+    private void hashPasswords(List<PendingRow> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (!bulkHashingPermit.tryAcquire()) {
+            throw new RejectedExecutionException("Another bulk registration is hashing passwords");
+        }
+        AtomicBoolean abandoned = new AtomicBoolean();
+        try {
+            int lanes = Math.min(Runtime.getRuntime().availableProcessors(), pending.size());
+            List<CompletableFuture<Void>> chains = new ArrayList<>(lanes);
+            for (int lane = 0; lane < lanes; lane++) {
+                CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                for (int i = lane; i < pending.size(); i += lanes) {
+                    PendingRow row = pending.get(i);
+                    chain = chain.thenRunAsync(() -> {
+                        if (!abandoned.get()) {
+                            row.passwordHash = passwordEncoder.encode(row.dto.getPassword());
+                        }
+                    }, passwordHashingExecutor);
+                }
+                chains.add(chain);
+            }
+            CompletableFuture.allOf(chains.toArray(new CompletableFuture[0])).join();
+        } catch (RuntimeException e) {
+            // Lanes still running skip their remaining rows
+            abandoned.set(true);
+            // A lane whose next hash was rejected by the full queue fails with the rejection
+            if (e instanceof CompletionException && e.getCause() instanceof RejectedExecutionException) {
+                throw (RejectedExecutionException) e.getCause();
+            }
+            throw e;
+        } finally {
+            bulkHashingPermit.release();
+        }
+    }
+    
+    /**
+     * Inserts one batch in a single transaction; Hibernate groups the inserts into JDBC batches.
+     * If the batch violates a constraint, for example because a concurrent registration took an
+     * email, its rows are retried one by one so only the conflicting rows are rejected. Any other
+     * database error fails the upload.
+     */
+    private void insert(List<PendingRow> batch) {
+        List<Student> students;
+        try {
+            students = transactionTemplate.execute(status -> insertBatch(batch));
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.get(0).report.rejected("Email or student ID already exists");
+                return;
+            }
+            for (PendingRow row : batch) {
+                insert(Collections.singletonList(row));
+            }
+            return;
+        }
+        
+        Cache verificationCache = cacheManager.getCache(CacheConfig.STUDENT_VERIFICATION);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRow row = batch.get(i);
+            row.report.created(students.get(i).getId());
+            if (verificationCache != null) {
+                verificationCache.evict(normalize(row.dto.getEmail()));
+            }
+        }
+    }
+    
+    private List<Student> insertBatch(List<PendingRow> batch) {
+        List<Student> students = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            students.add(studentService.newStudent(row.dto, row.passwordHash));
+        }
+        List<Student> saved = studentRepository.saveAll(students);
+        // Flush inside the transaction so constraint violations surface here, translated by the repository
+        studentRepository.flush();
+        return saved;
+    }
+    
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static String normalize(String email) {
+        return StudentService.normalizeEmail(email);
+    }
+    
+    private static final class PendingRow {
+        private final StudentRegistrationDTO dto;
+        private final BulkRegistrationRowDTO report;
+        private volatile String passwordHash;
+        
+        private PendingRow(StudentRegistrationDTO dto, BulkRegistrationRowDTO report) {
+            this.dto = dto;
+            this.report = report;
+        }
+    }
+}
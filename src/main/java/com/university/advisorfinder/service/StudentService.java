@@ -1,22 +1,59 @@
 package com.university.advisorfinder.service;
 
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.config.PasswordConfig;
+import com.university.advisorfinder.dto.InterestDemandDTO;
 import com.university.advisorfinder.dto.StudentRegistrationDTO;
 import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
 import com.university.advisorfinder.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 @Service
 public class StudentService {
     
+    private static final Logger logger = LoggerFactory.getLogger(StudentService.class);
+    
+    private static final int EXPECTED_STUDENTS = 100_000;
+    
+    private static final double EMAIL_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    
+    /** SpEL prefix of the student verification cache keys, see normalizeEmail. */
+    private static final String EMAIL_KEY = "T(com.university.advisorfinder.service.StudentService).normalizeEmail";
+    
     @Autowired
     private StudentRepository studentRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    @Qualifier(PasswordConfig.PASSWORD_HASHING_EXECUTOR)
+    private Executor passwordHashingExecutor;
+    
+    @Autowired
+    private ResearchInterestRepository researchInterestRepository;
+    
+    @Autowired
+    private InterestResolver interestResolver;
+    
+    // Created up front so registrations during the initial load are never missed
+    private final EmailBloomFilter emailFilter = new EmailBloomFilter(EXPECTED_STUDENTS, EMAIL_FILTER_FALSE_POSITIVE_RATE);
+    
     /**
      * Registers a new student with comprehensive validation.
      * TDD REFACTOR PHASE: Improved code organization and readability.
@@ -26,13 +63,56 @@ public class StudentService {
      * @throws IllegalArgumentException if email format is invalid
      * @throws IllegalStateException if email already exists
      */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_VERIFICATION, key = EMAIL_KEY + "(#registrationDTO.email)")
     public Student registerStudent(StudentRegistrationDTO registrationDTO) {
         // Enhanced validation using extracted methods
         validateEmailFormat(registrationDTO.getEmail());
         checkForDuplicateEmail(registrationDTO.getEmail());
         
         // Create and save the student
-        return createAndSaveStudent(registrationDTO);
+        String passwordHash = registrationDTO.getPassword() != null
+                ? passwordEncoder.encode(registrationDTO.getPassword()) : null;
+        return createAndSaveStudent(registrationDTO, passwordHash);
+    }
+    
+    /**
+     * Registers a student whose password was already hashed with {@link #hashPasswordAsync(String)}.
+     * Validation is repeated here, as another registration may have taken the email meanwhile.
+     * 
+     * @param registrationDTO the student registration data
+     * @param passwordHash the encoded password, or null if none was given
+     * @return the registered Student entity
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_VERIFICATION, key = EMAIL_KEY + "(#registrationDTO.email)")
+    public Student registerStudent(StudentRegistrationDTO registrationDTO, String passwordHash) {
+        validateRegistration(registrationDTO);
+        return createAndSaveStudent(registrationDTO, passwordHash);
+    }
+    
+    /**
+     * Runs the cheap registration checks, so invalid requests are rejected before any hashing work.
+     * @param registrationDTO the student registration data
+     * @throws IllegalArgumentException if email format is invalid
+     * @throws IllegalStateException if email already exists
+     */
+    public void validateRegistration(StudentRegistrationDTO registrationDTO) {
+        validateEmailFormat(registrationDTO.getEmail());
+        checkForDuplicateEmail(registrationDTO.getEmail());
+    }
+    
+    /**
+     * Hashes a password on the dedicated password hashing pool instead of the request thread.
+     * @param rawPassword the password to hash, may be null
+     * @return the encoded password, or null if no password was given
+     * @throws org.springframework.core.task.TaskRejectedException if the pool's queue is full
+     */
+    public CompletableFuture<String> hashPasswordAsync(String rawPassword) {
+        if (rawPassword == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), passwordHashingExecutor);
     }
     
     /**
@@ -57,7 +137,7 @@ public class StudentService {
      * @throws IllegalStateException if email already exists
      */
     private void checkForDuplicateEmail(String email) {
-        if (studentRepository.existsByEmail(email)) {
+        if (existsByEmail(email)) {
             throw new IllegalStateException("Email already exists");
         }
     }
@@ -65,43 +145,165 @@ public class StudentService {
     /**
      * Creates and saves a new Student entity.
      * @param registrationDTO the registration data
+     * @param passwordHash the encoded password, or null
      * @return the saved Student entity
      */
-    private Student createAndSaveStudent(StudentRegistrationDTO registrationDTO) {
+    private Student createAndSaveStudent(StudentRegistrationDTO registrationDTO, String passwordHash) {
         // Handle potential student ID conflicts
         if (registrationDTO.getStudentId() != null && 
             studentRepository.existsByStudentId(registrationDTO.getStudentId())) {
             throw new RuntimeException("Student ID already exists");
         }
+        return studentRepository.save(newStudent(registrationDTO, passwordHash));
+    }
+    
+    /**
+     * Builds an unsaved Student with its email normalised, its research interests linked and its
+     * email added to the email filter. Must be called inside a transaction, as interests are linked by reference.
+     * @param registrationDTO the registration data
+     * @param passwordHash the encoded password, or null
+     * @return the new, not yet persisted Student entity
+     */
+    public Student newStudent(StudentRegistrationDTO registrationDTO, String passwordHash) {
         Student student = new Student();
         student.setFirstName(registrationDTO.getFirstName());
         student.setLastName(registrationDTO.getLastName());
-        student.setEmail(registrationDTO.getEmail());
+        student.setEmail(normalizeEmail(registrationDTO.getEmail()));
         student.setPhone(registrationDTO.getPhone());
         student.setStudentId(registrationDTO.getStudentId());
         student.setProgram(registrationDTO.getProgram());
         student.setYearOfStudy(registrationDTO.getYearOfStudy());
         student.setInterests(registrationDTO.getInterests());
+        linkResearchInterests(student);
         
-        // Hash the password before saving
-        if (registrationDTO.getPassword() != null) {
-            String hashedPassword = passwordEncoder.encode(registrationDTO.getPassword());
-            student.setPassword(hashedPassword);
-        }
+        student.setPassword(passwordHash);
         
-        return studentRepository.save(student);
+        // Added before saving: a failed save leaves a harmless false positive, never a false negative
+        emailFilter.add(student.getEmail());
+        return student;
+    }
+    
+    /**
+     * Links the research interests named in the student's free-text interests.
+     */
+    private void linkResearchInterests(Student student) {
+        String interests = student.getInterests();
+        if (interests == null || interests.trim().isEmpty()) {
+            return;
+        }
+        for (Long interestId : interestResolver.resolve(interests)) {
+            student.getResearchInterests().add(researchInterestRepository.getReferenceById(interestId));
+        }
+    }
+    
+    /**
+     * Migrates one batch of students registered before interests were linked.
+     * Each call runs in its own transaction, so a large table is never held in one persistence context.
+     * @param afterId the last student id of the previous batch, 0 for the first batch
+     * @param batchSize the maximum number of students to migrate
+     * @return the last student id of this batch, or -1 when no students are left
+     */
+    @Transactional
+    public long migrateInterestsBatch(long afterId, int batchSize) {
+        List<Student> students = studentRepository.findUnlinkedInterestsAfter(afterId, PageRequest.of(0, batchSize));
+        if (students.isEmpty()) {
+            return -1;
+        }
+        for (Student student : students) {
+            linkResearchInterests(student);
+        }
+        return students.get(students.size() - 1).getId();
+    }
+    
+    /**
+     * Normalises one batch of emails stored before registration normalised them, so lookups by the
+     * normalised email find them on a case-sensitive collation too. An email whose normalised form
+     * is already taken by another student is left as it is and logged.
+     * @param afterId the last student id of the previous batch, 0 for the first batch
+     * @param batchSize the maximum number of students to check
+     * @return the last student id of this batch, or -1 when no students are left
+     */
+    @Transactional
+    public long migrateEmailsBatch(long afterId, int batchSize) {
+        List<Student> students = studentRepository.findUnnormalizedEmailsAfter(afterId, PageRequest.of(0, batchSize));
+        if (students.isEmpty()) {
+            return -1;
+        }
+        for (Student student : students) {
+            String email = normalizeEmail(student.getEmail());
+            if (email.equals(student.getEmail())) {
+                continue;
+            }
+            // The query flushes the emails normalised so far, so they are seen here as well
+            if (studentRepository.existsByEmail(email)) {
+                logger.warn("Student {} keeps email {}, its normalised form is already registered", student.getId(), student.getEmail());
+            } else {
+                student.setEmail(email);
+            }
+        }
+        return students.get(students.size() - 1).getId();
+    }
+    
+    public List<Student> findByResearchInterest(Long interestId) {
+        return studentRepository.findByResearchInterestId(interestId);
+    }
+    
+    public long countByResearchInterest(Long interestId) {
+        return studentRepository.countByResearchInterestId(interestId);
+    }
+    
+    /**
+     * @return the number of interested students per research interest, most demanded first
+     */
+    public List<InterestDemandDTO> getInterestDemand() {
+        return studentRepository.findInterestDemand();
     }
     
     public Optional<Student> findByEmail(String email) {
-        return studentRepository.findByEmail(email);
+        return studentRepository.findByEmail(normalizeEmail(email));
     }
     
     public Optional<Student> findById(Long id) {
         return studentRepository.findById(id);
     }
     
+    /**
+     * Checks whether a student is registered with the email, in any spelling of its case.
+     * Once the email filter is loaded, emails it has never seen are answered without a query.
+     */
     public boolean existsByEmail(String email) {
-        return studentRepository.existsByEmail(email);
+        if (emailFilter.isLoaded() && !emailFilter.mightContain(email)) {
+            return false;
+        }
+        return studentRepository.existsByEmail(normalizeEmail(email));
+    }
+    
+    /**
+     * Verifies that a student is registered before contact details are shown.
+     * Results are cached per normalised email, negative ones included, and evicted on registration.
+     * Emails are stored normalised, so every spelling of an address gets the same answer.
+     */
+    @Cacheable(cacheNames = CacheConfig.STUDENT_VERIFICATION, key = EMAIL_KEY + "(#email)")
+    public boolean isVerifiedStudent(String email) {
+        return existsByEmail(email);
+    }
+    
+    /**
+     * @return the email trimmed and lower-cased, the form emails are stored and verification results cached under
+     */
+    public static String normalizeEmail(String email) {
+        return EmailBloomFilter.normalize(email);
+    }
+    
+    /**
+     * Loads the emails of all registered students into the email filter.
+     */
+    @Transactional(readOnly = true)
+    public void initializeEmailFilter() {
+        try (Stream<String> emails = studentRepository.streamAllEmails()) {
+            emails.forEach(emailFilter::add);
+        }
+        emailFilter.markLoaded();
     }
     
     /**
@@ -0,0 +1,49 @@
+package com.university.advisorfinder.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects of a write until its transaction commits,
+ * so indexes and caches never observe writes that are later rolled back.
+ * Callbacks run after completion rather than in afterCommit, so they always follow the
+ * commit-time evictions of the transaction-aware caches.
+ */
+final class TransactionCallbacks {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TransactionCallbacks.class);
+    
+    private TransactionCallbacks() {}
+    
+    /**
+     * Runs the actions in order once the current transaction commits, or immediately if there is
+     * none. Each action runs on its own: a failing one is logged and the rest still run.
+     * @param actions the actions to run
+     */
+    static void afterCommit(Runnable... actions) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        runAll(actions);
+                    }
+                }
+            });
+        } else {
+            runAll(actions);
+        }
+    }
+    
+    private static void runAll(Runnable[] actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.error("Post-commit action failed", e);
+            }
+        }
+    }
+}
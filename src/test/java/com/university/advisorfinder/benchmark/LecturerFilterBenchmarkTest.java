@@ -0,0 +1,123 @@
+package com.university.advisorfinder.benchmark;
+
+import com.university.advisorfinder.model.ResearchInterest;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import com.university.advisorfinder.service.LecturerService;
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency of combined lecturer filters, a single dynamic query, at 10k and 100k lecturers.
+ * Run with: mvn test -Dbenchmarks=true -Dtest=LecturerFilterBenchmarkTest
+ */
+@BaseTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LecturerFilterBenchmarkTest {
+
+    private static final int[] DIRECTORY_SIZES = {10_000, 100_000};
+    private static final int QUERIES = 50;
+    private static final int INSERT_BATCH = 1_000;
+
+    private static final String[] DEPARTMENTS = {
+        "Computer Science", "Software Engineering", "Civil Engineering", "Electrical Engineering",
+        "Business Administration", "Biology", "Chemistry", "Physics", "Mathematics"
+    };
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private ResearchInterestRepository researchInterestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long seededAfterId;
+
+    private long nextId;
+
+    @Test
+    @DisplayName("Combined filters should scale with the directory size")
+    void filterLecturers_latencyAt10kAnd100k() {
+        List<ResearchInterest> interests = researchInterestRepository.findAll();
+        seededAfterId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(\"id\"), 0) FROM \"lecturers\"", Long.class);
+        // Ids are assigned here, well above any block the id generator may hand out during the run
+        nextId = seededAfterId + 1_000_000;
+        Random random = new Random(42);
+
+        int inserted = 0;
+        for (int size : DIRECTORY_SIZES) {
+            insertLecturers(inserted, size - inserted, interests, random);
+            inserted = size;
+
+            // Warm up the JIT and connection pool before measuring
+            runQueries(interests, new Random(7));
+            long start = System.nanoTime();
+            int results = runQueries(interests, new Random(7));
+            double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / QUERIES;
+
+            System.out.printf("Combined filter over %d lecturers: %.2f ms/query, %d results total%n",
+                size, averageMillis, results);
+            assertTrue(results > 0);
+        }
+    }
+
+    @AfterAll
+    void removeSeededLecturers() {
+        jdbcTemplate.update("DELETE FROM \"lecturer_research_interests\" WHERE \"lecturer_id\" > ?", seededAfterId);
+        jdbcTemplate.update("DELETE FROM \"lecturers\" WHERE \"id\" > ?", seededAfterId);
+    }
+
+    private int runQueries(List<ResearchInterest> interests, Random random) {
+        int results = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            ResearchInterest interest = interests.get(random.nextInt(interests.size()));
+            results += lecturerService.filterLecturers(
+                "engineering", interest.getCategory().getId(), Collections.singletonList(interest.getId()), "bench").size();
+        }
+        return results;
+    }
+
+    private void insertLecturers(int offset, int count, List<ResearchInterest> interests, Random random) {
+        List<Object[]> lecturers = new ArrayList<>(INSERT_BATCH);
+        for (int i = offset; i < offset + count; i++) {
+            lecturers.add(new Object[] {nextId++, "Bench", "Lecturer" + i, "bench" + i + "@university.edu", "Dr.",
+                DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]});
+            if (lecturers.size() == INSERT_BATCH) {
+                insertBatch(lecturers, interests, random);
+            }
+        }
+        if (!lecturers.isEmpty()) {
+            insertBatch(lecturers, interests, random);
+        }
+    }
+
+    private void insertBatch(List<Object[]> lecturers, List<ResearchInterest> interests, Random random) {
+        jdbcTemplate.batchUpdate("INSERT INTO \"lecturers\" (\"id\", \"first_name\", \"last_name\", \"email\", \"title\", \"department\") " +
+            "VALUES (?, ?, ?, ?, ?, ?)", lecturers);
+        List<Object[]> links = new ArrayList<>();
+        for (Object[] lecturer : lecturers) {
+            Long id = (Long) lecturer[0];
+            Set<Long> interestIds = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                interestIds.add(interests.get(random.nextInt(interests.size())).getId());
+            }
+            for (Long interestId : interestIds) {
+                links.add(new Object[] {id, interestId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO \"lecturer_research_interests\" (\"lecturer_id\", \"research_interest_id\") VALUES (?, ?)", links);
+        lecturers.clear();
+    }
+}
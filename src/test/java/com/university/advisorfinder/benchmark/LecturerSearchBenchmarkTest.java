@@ -0,0 +1,102 @@
+package com.university.advisorfinder.benchmark;
+
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import com.university.advisorfinder.dto.ResearchInterestDTO;
+import com.university.advisorfinder.service.LecturerSearchIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency budget for in-memory lecturer search over a synthetic directory.
+ * Run with: mvn test -Dbenchmarks=true -Dtest=LecturerSearchBenchmarkTest
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LecturerSearchBenchmarkTest {
+
+    private static final int LECTURERS = 20_000;
+    private static final int QUERIES = 2_000;
+    private static final double FUZZY_BUDGET_MILLIS = 5.0;
+
+    private static final String[] SYLLABLES = {
+        "ar", "be", "cor", "da", "el", "fin", "ga", "hol", "in", "jo", "ka", "lin",
+        "mor", "na", "os", "per", "qui", "ros", "sel", "tor", "ul", "ven", "wil", "zan"
+    };
+
+    private static final String[] INTERESTS = {
+        "Artificial Intelligence", "Software Engineering", "Data Science", "Cybersecurity",
+        "Civil Engineering", "Computer Engineering", "Electrical Engineering", "Mechanical Engineering",
+        "Marketing", "Finance", "Management", "Biology", "Chemistry", "Physics", "Mathematics"
+    };
+
+    private final LecturerSearchIndex index = new LecturerSearchIndex();
+
+    private final List<String> queries = new ArrayList<>();
+
+    @BeforeAll
+    void buildIndex() {
+        Random random = new Random(42);
+        List<LecturerPublicDTO> lecturers = new ArrayList<>(LECTURERS);
+        for (long id = 1; id <= LECTURERS; id++) {
+            LecturerPublicDTO lecturer = new LecturerPublicDTO(id, name(random), name(random), "Dr.",
+                "Department of " + INTERESTS[random.nextInt(INTERESTS.length)], null, null);
+            Set<ResearchInterestDTO> interests = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                int interest = random.nextInt(INTERESTS.length);
+                interests.add(new ResearchInterestDTO((long) interest, INTERESTS[interest], null, "Category"));
+            }
+            lecturer.setResearchInterests(interests);
+            lecturers.add(lecturer);
+            if (id % (LECTURERS / QUERIES) == 0) {
+                queries.add(typo(lecturer.getLastName(), random));
+            }
+        }
+        index.rebuild(lecturers);
+    }
+
+    @Test
+    @DisplayName("Fuzzy search should stay within its latency budget")
+    void fuzzySearch_withinBudget() {
+        // Warm up the JIT before measuring
+        for (String query : queries) {
+            index.search(query, true);
+        }
+
+        long start = System.nanoTime();
+        int hits = 0;
+        for (String query : queries) {
+            hits += index.search(query, true).isEmpty() ? 0 : 1;
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / queries.size();
+
+        System.out.printf("Fuzzy search over %d lecturers: %.3f ms/query, %d/%d queries matched%n",
+            LECTURERS, averageMillis, hits, queries.size());
+        assertEquals(queries.size(), hits);
+        assertTrue(averageMillis < FUZZY_BUDGET_MILLIS,
+            "Average fuzzy search latency " + averageMillis + " ms exceeds " + FUZZY_BUDGET_MILLIS + " ms");
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String typo(String word, Random random) {
+        if (word.length() < 5) {
+            return word;
+        }
+        int position = 1 + random.nextInt(word.length() - 2);
+        return word.substring(0, position) + word.substring(position + 1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.advisorfinder.benchmark;
+
+import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.test.BaseTest;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Student insert throughput with JDBC batching, against one statement per row as
+ * IDENTITY ids used to force.
+ * Run with: mvn test -Dbenchmarks=true -Dtest=StudentInsertBenchmarkTest
+ */
+@BaseTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudentInsertBenchmarkTest {
+
+    private static final int STUDENTS = 20_000;
+    private static final int TRANSACTION_SIZE = 1_000;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String EMAIL_DOMAIN = "@bench.university.edu";
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Batched inserts should outperform one statement per row")
+    void insertThroughput_batchedVersusRowByRow() {
+        // Warm up the JIT, the connection pool and the id generator
+        insertStudents("warmup", STUDENTS / 10, JDBC_BATCH_SIZE);
+
+        double rowByRow = insertStudents("single", STUDENTS, 1);
+        double batched = insertStudents("batched", STUDENTS, JDBC_BATCH_SIZE);
+
+        System.out.printf("Inserted %d students: %.0f rows/s row by row, %.0f rows/s batched (%.1fx)%n",
+            STUDENTS, rowByRow, batched, batched / rowByRow);
+        assertTrue(batched > rowByRow);
+    }
+
+    @AfterAll
+    void removeInsertedStudents() {
+        jdbcTemplate.update("DELETE FROM \"students\" WHERE \"email\" LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    /**
+     * @return the throughput in rows per second
+     */
+    private double insertStudents(String label, int count, int jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int from = 0; from < count; from += TRANSACTION_SIZE) {
+            int first = from;
+            int last = Math.min(from + TRANSACTION_SIZE, count);
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                for (int i = first; i < last; i++) {
+                    entityManager.persist(new Student("Bench", "Student" + i, label + i + EMAIL_DOMAIN));
+                }
+            });
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("%s: %d rows with JDBC batch size %d, %d statements prepared, %.2f s%n",
+            label, count, jdbcBatchSize, statistics.getPrepareStatementCount(), seconds);
+        return count / seconds;
+    }
+}
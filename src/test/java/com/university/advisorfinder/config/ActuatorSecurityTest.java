@@ -0,0 +1,38 @@
+package com.university.advisorfinder.config;
+
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@BaseTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should keep health public")
+    void health_isPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should serve cache metrics to the admin only")
+    void metrics_requiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/cache.gets"))
+            .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets").with(httpBasic("admin", "admin-test")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("cache.gets"));
+    }
+}
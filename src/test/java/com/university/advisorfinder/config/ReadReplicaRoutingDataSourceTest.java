@@ -0,0 +1,70 @@
+package com.university.advisorfinder.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes against two separate in-memory H2 databases that each know their own name.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary");
+        DataSource replica = database("routing_replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void readOnlyTransaction_usesReplica() {
+        transactionTemplate.setReadOnly(true);
+        assertEquals("routing_replica", transactionTemplate.execute(status -> databaseName()));
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions and non-transactional calls to the primary")
+    void readWriteTransaction_usesPrimary() {
+        assertEquals("routing_primary", transactionTemplate.execute(status -> databaseName()));
+        assertEquals("routing_primary", databaseName());
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions pinned to the primary to the primary")
+    void readOnlyTransaction_onPrimary_usesPrimary() {
+        transactionTemplate.setReadOnly(true);
+        assertEquals("routing_primary",
+            ReadReplicaRoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> databaseName())));
+        assertEquals("routing_replica", transactionTemplate.execute(status -> databaseName()));
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,58 @@
+package com.university.advisorfinder.controller;
+
+import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.service.LecturerService;
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@BaseTest
+@AutoConfigureMockMvc
+class LecturerControllerSecurityTest {
+
+    private static final String ROSTER =
+        "[{\"firstName\":\"Sec\",\"lastName\":\"Import\",\"email\":\"sec.import@university.edu\"}]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @AfterEach
+    void removeImportedLecturer() {
+        lecturerRepository.findByEmail("sec.import@university.edu")
+            .ifPresent(lecturer -> lecturerService.deleteLecturer(lecturer.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject an anonymous lecturer import")
+    void importLecturers_rejectsAnonymous() throws Exception {
+        mockMvc.perform(post("/api/lecturers/import").contentType(MediaType.APPLICATION_JSON).content(ROSTER))
+            .andExpect(status().isUnauthorized());
+
+        assertFalse(lecturerRepository.findByEmail("sec.import@university.edu").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should accept a lecturer import from the admin")
+    void importLecturers_acceptsAdmin() throws Exception {
+        mockMvc.perform(post("/api/lecturers/import").contentType(MediaType.APPLICATION_JSON).content(ROSTER)
+                .with(httpBasic("admin", "admin-test")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1));
+    }
+}
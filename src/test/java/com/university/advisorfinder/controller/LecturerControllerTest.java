@@ -0,0 +1,73 @@
+package com.university.advisorfinder.controller;
+
+import com.university.advisorfinder.service.LecturerDirectorySnapshot;
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@BaseTest
+@AutoConfigureMockMvc
+class LecturerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LecturerDirectorySnapshot directorySnapshot;
+
+    private LecturerDirectorySnapshot.Snapshot snapshot;
+
+    @BeforeEach
+    void awaitSnapshot() throws InterruptedException {
+        // The snapshot is built in the background once the application is ready
+        for (int attempt = 0; attempt < 100 && snapshot == null; attempt++) {
+            snapshot = directorySnapshot.current();
+            if (snapshot == null) {
+                Thread.sleep(50);
+            }
+        }
+        assertNotNull(snapshot, "directory snapshot was not built");
+    }
+
+    @Test
+    @DisplayName("Should revalidate the gzip directory only with the gzip entity tag")
+    void getAllLecturersPublic_gzip_revalidatesOnlyGzipTag() throws Exception {
+        mockMvc.perform(get("/api/lecturers/public")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, snapshot.getGzipEtag()))
+            .andExpect(status().isNotModified())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+
+        mockMvc.perform(get("/api/lecturers/public")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, snapshot.getEtag()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, snapshot.getGzipEtag()))
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+    }
+
+    @Test
+    @DisplayName("Should revalidate the identity directory only with the identity entity tag")
+    void getAllLecturersPublic_identity_revalidatesOnlyIdentityTag() throws Exception {
+        mockMvc.perform(get("/api/lecturers/public")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/" + snapshot.getEtag()))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/lecturers/public")
+                .header(HttpHeaders.IF_NONE_MATCH, snapshot.getGzipEtag()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+}
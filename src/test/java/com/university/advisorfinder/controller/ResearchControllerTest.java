@@ -0,0 +1,41 @@
+package com.university.advisorfinder.controller;
+
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Starts the full application context, so a repository query that fails validation is caught here.
+ */
+@BaseTest
+@AutoConfigureMockMvc
+class ResearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should serve the research tree and revalidate it by ETag")
+    void getResearchTree_servesTreeWithEtag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/research/tree"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$", not(empty())))
+            .andExpect(jsonPath("$[0].name").isString())
+            .andExpect(jsonPath("$[*].interests[*].lecturerCount", hasItem(greaterThan(0))))
+            .andReturn();
+
+        mockMvc.perform(get("/api/research/tree")
+                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,49 @@
+package com.university.advisorfinder.controller;
+
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@BaseTest
+@AutoConfigureMockMvc
+class StudentControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should reject an anonymous bulk registration")
+    void registerStudentsBulk_rejectsAnonymous() throws Exception {
+        mockMvc.perform(post("/api/students/bulk").contentType(MediaType.APPLICATION_JSON).content("[]"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should accept a bulk registration from the admin")
+    void registerStudentsBulk_acceptsAdmin() throws Exception {
+        mockMvc.perform(post("/api/students/bulk").contentType(MediaType.APPLICATION_JSON).content("[]")
+                .with(httpBasic("admin", "admin-test")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    @DisplayName("Should serve interest demand to the admin only")
+    void getInterestDemand_requiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/students/interest-demand"))
+            .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/students/interest-demand").with(httpBasic("admin", "admin-test")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isArray());
+    }
+}
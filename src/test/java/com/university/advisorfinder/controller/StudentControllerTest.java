@@ -0,0 +1,112 @@
+package com.university.advisorfinder.controller;
+
+import com.university.advisorfinder.dto.StudentRegistrationDTO;
+import com.university.advisorfinder.service.StudentBulkRegistrationService;
+import com.university.advisorfinder.service.StudentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentControllerTest {
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private StudentBulkRegistrationService bulkRegistrationService;
+
+    @Mock
+    private Executor registrationExecutor;
+
+    @InjectMocks
+    private StudentController studentController;
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when the registration pool rejects the save")
+    void registerStudent_registrationPoolSaturated_returnsServiceUnavailable() {
+        // Arrange
+        when(studentService.hashPasswordAsync("password123")).thenReturn(CompletableFuture.completedFuture("$2a$10$hash"));
+        doThrow(new TaskRejectedException("Registration pool is full")).when(registrationExecutor).execute(any());
+
+        // Act
+        ResponseEntity<?> response = studentController.registerStudent(registration()).join();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        verify(studentService, never()).registerStudent(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when saving the registration times out")
+    void registerStudent_queryTimeout_returnsServiceUnavailable() {
+        // Arrange
+        StudentRegistrationDTO dto = registration();
+        when(studentService.hashPasswordAsync("password123")).thenReturn(CompletableFuture.completedFuture("$2a$10$hash"));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(registrationExecutor).execute(any());
+        when(studentService.registerStudent(dto, "$2a$10$hash")).thenThrow(new QueryTimeoutException("Lock wait timeout"));
+
+        // Act
+        ResponseEntity<?> response = studentController.registerStudent(dto).join();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 without Retry-After when the registration is invalid")
+    void registerStudent_emailTaken_returnsBadRequest() {
+        // Arrange
+        StudentRegistrationDTO dto = registration();
+        when(studentService.hashPasswordAsync("password123")).thenReturn(CompletableFuture.completedFuture("$2a$10$hash"));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(registrationExecutor).execute(any());
+        when(studentService.registerStudent(dto, "$2a$10$hash")).thenThrow(new IllegalStateException("Email already exists"));
+
+        // Act
+        ResponseEntity<?> response = studentController.registerStudent(dto).join();
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when the async registration times out")
+    void registrationTimedOut_returnsServiceUnavailable() {
+        ResponseEntity<?> response = studentController.registrationTimedOut(new AsyncRequestTimeoutException());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static StudentRegistrationDTO registration() {
+        StudentRegistrationDTO dto = new StudentRegistrationDTO();
+        dto.setFirstName("Jane");
+        dto.setLastName("Smith");
+        dto.setEmail("jane@example.com");
+        dto.setPassword("password123");
+        return dto;
+    }
+}
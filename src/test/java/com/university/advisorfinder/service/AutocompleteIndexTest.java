@@ -0,0 +1,70 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AutocompleteIndex(Arrays.asList(
+            new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, 1L, "Artificial Intelligence"),
+            new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, 2L, "Data Science"),
+            new SuggestionDTO(SuggestionDTO.TYPE_CATEGORY, 3L, "Computer Science"),
+            new SuggestionDTO(SuggestionDTO.TYPE_LECTURER, 4L, "Sarah Johnson"),
+            new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, 5L, "Science Communication")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should match the start of any word, case-insensitively")
+    void suggest_matchesWordStarts() {
+        assertEquals(Collections.singletonList("Artificial Intelligence"), labels(index.suggest("INTEL", 10)));
+        assertEquals(Collections.singletonList("Sarah Johnson"), labels(index.suggest("joh", 10)));
+        assertTrue(index.suggest("ntel", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank labels starting with the prefix first, then shorter labels")
+    void suggest_ranksLabelStartsFirst() {
+        assertEquals(Arrays.asList("Science Communication", "Data Science", "Computer Science"),
+            labels(index.suggest("sci", 10)));
+        assertEquals(Arrays.asList("Science Communication", "Data Science"), labels(index.suggest("sci", 2)));
+    }
+
+    @Test
+    @DisplayName("Should match multi-word prefixes and ignore blank input")
+    void suggest_multiWordAndBlank() {
+        assertEquals(Collections.singletonList("Data Science"), labels(index.suggest("data sc", 10)));
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank the whole prefix range, however many keys share the prefix")
+    void suggest_largePrefixRange_findsBestMatch() {
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            suggestions.add(new SuggestionDTO(SuggestionDTO.TYPE_LECTURER, i, "Lecturer Sa" + i));
+        }
+        suggestions.add(new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, 1000L, "Sz"));
+        AutocompleteIndex large = new AutocompleteIndex(suggestions);
+
+        assertEquals(Arrays.asList("Sz", "Lecturer Sa0", "Lecturer Sa1"), labels(large.suggest("s", 3)));
+    }
+
+    private static List<String> labels(List<SuggestionDTO> suggestions) {
+        List<String> labels = new ArrayList<>();
+        for (SuggestionDTO suggestion : suggestions) {
+            labels.add(suggestion.getLabel());
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,83 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.repository.ResearchCategoryRepository;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTest {
+
+    @Mock
+    private ResearchCategoryRepository categoryRepository;
+
+    @Mock
+    private ResearchInterestRepository interestRepository;
+
+    @Mock
+    private LecturerRepository lecturerRepository;
+
+    @InjectMocks
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findSuggestions()).thenAnswer(invocation -> {
+            // A slow load, so concurrent lookups overlap with it
+            Thread.sleep(200);
+            return Collections.singletonList(new SuggestionDTO(SuggestionDTO.TYPE_CATEGORY, 1L, "Computer Science"));
+        });
+        when(interestRepository.findSuggestions()).thenReturn(
+            Collections.singletonList(new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, 2L, "Machine Learning")));
+        when(lecturerRepository.findSuggestions()).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index once for concurrent lookups after an invalidation")
+    void suggest_concurrentLookups_rebuildOnce() throws Exception {
+        autocompleteService.invalidate();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<SuggestionDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return autocompleteService.suggest("mach", 5);
+                }));
+            }
+            start.countDown();
+            for (Future<List<SuggestionDTO>> result : results) {
+                assertEquals("Machine Learning", result.get(10, TimeUnit.SECONDS).get(0).getLabel());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(categoryRepository, times(1)).findSuggestions();
+    }
+
+    @Test
+    @DisplayName("Should rebuild again after an invalidation")
+    void suggest_afterInvalidate_rebuilds() {
+        assertFalse(autocompleteService.suggest("comp", 5).isEmpty());
+        assertFalse(autocompleteService.suggest("comp", 5).isEmpty());
+        autocompleteService.invalidate();
+        assertFalse(autocompleteService.suggest("comp", 5).isEmpty());
+
+        verify(categoryRepository, times(2)).findSuggestions();
+    }
+}
@@ -0,0 +1,40 @@
+package com.university.advisorfinder.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should read quoted fields, escaped quotes and embedded line breaks")
+    void next_quotedFields_parsedPerRfc4180() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+            "email,interests\r\n" +
+            "a@uni.edu,\"AI, Robotics\"\r\n" +
+            "\n" +
+            "b@uni.edu,\"The \"\"best\"\"\nfield\"\n" +
+            "c@uni.edu,"));
+
+        assertEquals(Arrays.asList("email", "interests"), reader.next());
+        assertEquals(Arrays.asList("a@uni.edu", "AI, Robotics"), reader.next());
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(Arrays.asList("b@uni.edu", "The \"best\"\nfield"), reader.next());
+        assertEquals(4, reader.getLineNumber());
+        assertEquals(Arrays.asList("c@uni.edu", ""), reader.next());
+        assertEquals(6, reader.getLineNumber());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void next_unterminatedQuote_throwsException() {
+        CsvReader reader = new CsvReader(new StringReader("a@uni.edu,\"open"));
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
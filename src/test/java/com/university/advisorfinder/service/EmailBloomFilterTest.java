@@ -0,0 +1,40 @@
+package com.university.advisorfinder.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added email as absent, ignoring case and whitespace")
+    void mightContain_addedEmails_noFalseNegatives() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("student" + i + "@university.edu");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("student" + i + "@university.edu"));
+        }
+        assertTrue(filter.mightContain("  Student42@University.EDU "));
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near its target")
+    void mightContain_unknownEmails_lowFalsePositiveRate() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("student" + i + "@university.edu");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("applicant" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+}
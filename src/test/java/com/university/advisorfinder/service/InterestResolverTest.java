@@ -0,0 +1,61 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.SuggestionDTO;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterestResolverTest {
+
+    @Mock
+    private ResearchInterestRepository interestRepository;
+
+    @InjectMocks
+    private InterestResolver interestResolver;
+
+    @BeforeEach
+    void setUp() {
+        when(interestRepository.findSuggestions()).thenReturn(Arrays.asList(
+            interest(1L, "Machine Learning"),
+            interest(2L, "Artificial Intelligence"),
+            interest(3L, "Data Science"),
+            interest(4L, "Data Visualization")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should resolve exact, partial and misspelt interest names")
+    void resolve_freeText_mapsToInterestIds() {
+        assertEquals(new LinkedHashSet<>(Arrays.asList(1L, 2L)),
+            interestResolver.resolve("machine learning, Artifical Intelligence"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(3L, 4L)), interestResolver.resolve("data"));
+        assertEquals(Collections.singleton(3L), interestResolver.resolve("Data-Science;\nunknown topic"));
+        assertTrue(interestResolver.resolve(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reload names only after invalidation")
+    void resolve_cachesNamesUntilInvalidated() {
+        interestResolver.resolve("data science");
+        interestResolver.resolve("machine learning");
+        verify(interestRepository, times(1)).findSuggestions();
+
+        interestResolver.invalidate();
+        interestResolver.resolve("data science");
+        verify(interestRepository, times(2)).findSuggestions();
+    }
+
+    private static SuggestionDTO interest(Long id, String name) {
+        return new SuggestionDTO(SuggestionDTO.TYPE_INTEREST, id, name);
+    }
+}
@@ -0,0 +1,74 @@
+package com.university.advisorfinder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LecturerDirectorySnapshotTest {
+
+    @Mock
+    private LecturerService lecturerService;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private LecturerDirectorySnapshot directorySnapshot;
+
+    @Test
+    @DisplayName("Should serve pre-encoded JSON and gzip bytes for the current version")
+    void refresh_currentVersion_servesEncodedBytes() throws IOException {
+        LecturerPublicDTO lecturer = new LecturerPublicDTO(1L, "John", "Smith", "Dr.", "Computer Science", null, null);
+        when(lecturerService.loadAllLecturersPublic()).thenReturn(Collections.singletonList(lecturer));
+        when(dataVersion.lecturerDirectoryTag()).thenReturn("\"v1\"");
+
+        directorySnapshot.refresh();
+        LecturerDirectorySnapshot.Snapshot snapshot = directorySnapshot.current();
+
+        assertNotNull(snapshot);
+        assertEquals("\"v1\"", snapshot.getEtag());
+        assertEquals("\"v1-gzip\"", snapshot.getGzipEtag());
+        assertArrayEquals(objectMapper.writeValueAsBytes(Collections.singletonList(lecturer)), snapshot.getJson());
+        assertArrayEquals(snapshot.getJson(), gunzip(snapshot.getGzip()));
+    }
+
+    @Test
+    @DisplayName("Should not serve a snapshot older than the current version")
+    void current_staleVersion_returnsNull() {
+        when(lecturerService.loadAllLecturersPublic()).thenReturn(Collections.emptyList());
+        when(dataVersion.lecturerDirectoryTag()).thenReturn("\"v1\"", "\"v2\"");
+
+        directorySnapshot.refresh();
+
+        assertNull(directorySnapshot.current());
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.LecturerImportReportDTO;
+import com.university.advisorfinder.model.Lecturer;
+import com.university.advisorfinder.repository.LecturerRepository;
+import com.university.advisorfinder.test.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@BaseTest
+class LecturerImportServiceTest {
+
+    @Autowired
+    private LecturerImportService lecturerImportService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    private final List<String> importedEmails = new ArrayList<>();
+
+    @AfterEach
+    void removeImportedLecturers() {
+        for (String email : importedEmails) {
+            lecturerRepository.findByEmail(email).ifPresent(lecturer -> lecturerService.deleteLecturer(lecturer.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should import a JSON array and report rejected rows")
+    void importFromJson_importsValidRowsAndRejectsOthers() throws Exception {
+        importedEmails.add("ada.import@university.edu");
+        String json = "[" +
+            "{\"firstName\":\"Ada\",\"lastName\":\"Import\",\"email\":\"ada.import@university.edu\"," +
+            "\"researchInterests\":[\"data science\",\"Cybersecurity\"]}," +
+            "{\"firstName\":\"Ada\",\"lastName\":\"Again\",\"email\":\"ADA.import@university.edu\"}," +
+            "{\"firstName\":\"Bob\",\"lastName\":\"Import\",\"email\":\"bob.import@university.edu\",\"researchInterests\":[\"Alchemy\"]}," +
+            "{\"firstName\":\"Dup\",\"lastName\":\"Existing\",\"email\":\"john.smith@university.edu\"}," +
+            "{\"lastName\":\"Nameless\",\"email\":\"nameless.import@university.edu\"}" +
+            "]";
+
+        LecturerImportReportDTO report = lecturerImportService.importFromJson(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(5, report.getTotal());
+        assertEquals(1, report.getCreated());
+        assertEquals(4, report.getRejected());
+        assertEquals("Duplicate email in import", report.getErrors().get(0).getError());
+        assertEquals("Unknown research interest: Alchemy", report.getErrors().get(1).getError());
+        assertEquals(5, report.getErrors().get(2).getRow());
+        // Emails taken by existing lecturers are found when the batch is written
+        assertEquals("Email already exists", report.getErrors().get(3).getError());
+
+        Lecturer imported = lecturerRepository.findByEmail("ada.import@university.edu").orElseThrow(AssertionError::new);
+        assertEquals(2, lecturerRepository.findAllWithResearchInterestsByIdIn(Collections.singletonList(imported.getId()))
+            .get(0).getResearchInterests().size());
+    }
+
+    @Test
+    @DisplayName("Should import CSV with semicolon separated interests")
+    void importFromCsv_importsRows() throws Exception {
+        importedEmails.add("grace.import@university.edu");
+        String csv = "firstName,lastName,email,department,researchInterests\n" +
+            "Grace,Import,grace.import@university.edu,Computer Science,Artificial Intelligence;Data Science\n";
+
+        LecturerImportReportDTO report = lecturerImportService.importFromCsv(new StringReader(csv));
+
+        assertEquals(1, report.getCreated());
+        assertTrue(report.getErrors().isEmpty());
+        assertTrue(lecturerService.filterLecturers("computer", null, null, "grace").stream()
+            .anyMatch(lecturer -> lecturer.getLastName().equals("Import")));
+    }
+
+    @Test
+    @DisplayName("Should reject input that is not a JSON array")
+    void importFromJson_notAnArray_throws() {
+        assertThrows(IllegalArgumentException.class, () -> lecturerImportService.importFromJson(
+            new ByteArrayInputStream("{\"email\":\"x@university.edu\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+}
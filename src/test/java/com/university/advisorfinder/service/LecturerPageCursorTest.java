@@ -0,0 +1,36 @@
+package com.university.advisorfinder.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LecturerPageCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip sort order, id and key")
+    void encodeDecode_roundTrips() {
+        LecturerPageCursor cursor = LecturerPageCursor.decode(
+            new LecturerPageCursor(LecturerSort.DEPARTMENT, 42L, "Computer | Science").encode());
+
+        assertEquals(LecturerSort.DEPARTMENT, cursor.getSort());
+        assertEquals(42L, cursor.getId());
+        assertEquals("Computer | Science", cursor.getKey());
+    }
+
+    @Test
+    @DisplayName("Should distinguish a missing key from an empty key")
+    void encodeDecode_nullAndEmptyKeys() {
+        assertNull(LecturerPageCursor.decode(new LecturerPageCursor(LecturerSort.DEPARTMENT, 7L, null).encode()).getKey());
+        assertEquals("", LecturerPageCursor.decode(new LecturerPageCursor(LecturerSort.LAST_NAME, 7L, "").encode()).getKey());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and unknown sort orders")
+    void decode_malformed_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> LecturerPageCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> LecturerSort.fromParameter("salary"));
+        assertEquals(LecturerSort.LAST_NAME, LecturerSort.fromParameter("last_name"));
+        assertEquals(LecturerSort.LAST_NAME, LecturerSort.fromParameter("lastName"));
+    }
+}
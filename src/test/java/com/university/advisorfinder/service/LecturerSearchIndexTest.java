@@ -0,0 +1,187 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.FacetCountDTO;
+import com.university.advisorfinder.dto.FacetedSearchResultDTO;
+import com.university.advisorfinder.dto.LecturerMatchDTO;
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import com.university.advisorfinder.dto.ResearchInterestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LecturerSearchIndexTest {
+
+    private LecturerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LecturerSearchIndex();
+        index.rebuild(Arrays.asList(
+            lecturer(1L, "John", "Smith", "Computer Science", interest(10L, "Artificial Intelligence")),
+            lecturer(2L, "Sarah", "Johnson", "Computer Science", interest(11L, "Data Science"), interest(12L, "Cybersecurity")),
+            lecturer(3L, "Michael", "Brown", "Mechanical Engineering", interest(13L, "Mechanical Engineering"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should match keyword prefixes across names, department and interests")
+    void search_prefixAcrossFields_returnsMatches() {
+        assertEquals(Collections.singletonList(1L), ids(index.search("artif")));
+        assertEquals(Arrays.asList(1L, 2L), ids(index.search("John")));
+        assertEquals(Collections.singletonList(2L), ids(index.search("johnson")));
+        assertEquals(Arrays.asList(1L, 2L), ids(index.search("computer")));
+    }
+
+    @Test
+    @DisplayName("Should require every keyword token to match")
+    void search_multipleTokens_intersectsMatches() {
+        assertEquals(Collections.singletonList(2L), ids(index.search("Data Science")));
+        assertTrue(index.search("Smith Cybersecurity").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void putAndRemove_updateIndex() {
+        index.put(lecturer(3L, "Michael", "Brown", "Robotics"));
+        assertTrue(index.search("mechanical").isEmpty());
+        assertEquals(Collections.singletonList(3L), ids(index.search("robotics")));
+
+        index.remove(1L);
+        assertTrue(index.search("smith").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match any or all research interests")
+    void findByInterests_anyAndAll() {
+        assertEquals(Arrays.asList(1L, 2L), ids(index.findByInterests(Arrays.asList(10L, 12L), false)));
+        assertEquals(Collections.singletonList(2L), ids(index.findByInterests(Arrays.asList(11L, 12L), true)));
+        assertTrue(index.findByInterests(Arrays.asList(10L, 12L), true).isEmpty());
+        assertTrue(index.findByInterests(Arrays.asList(10L, 99L), true).isEmpty());
+        assertEquals(Collections.singletonList(1L), ids(index.findByInterests(Arrays.asList(10L, 99L), false)));
+    }
+
+    @Test
+    @DisplayName("Should rank lecturers by rarity-weighted interest overlap")
+    void rankByInterests_ordersByWeightedOverlap() {
+        index.put(lecturer(4L, "Emily", "Davis", "Computer Science", interest(10L, "Artificial Intelligence"), interest(11L, "Data Science")));
+
+        List<LecturerMatchDTO> matches = index.rankByInterests(Arrays.asList(10L, 11L, 12L), 10);
+
+        // Sarah covers Data Science and the rare Cybersecurity, Emily two more common interests
+        assertEquals(3, matches.size());
+        assertEquals(2L, matches.get(0).getLecturer().getId());
+        assertEquals(4L, matches.get(1).getLecturer().getId());
+        assertEquals(1L, matches.get(2).getLecturer().getId());
+        assertTrue(matches.get(0).getScore() > matches.get(1).getScore());
+        assertEquals(2, matches.get(0).getMatchedInterests());
+        assertEquals(1, index.rankByInterests(Arrays.asList(10L, 11L, 12L), 1).size());
+    }
+
+    @Test
+    @DisplayName("Should update interest postings when a lecturer's interests change")
+    void put_changedInterests_updatesPostings() {
+        index.put(lecturer(1L, "John", "Smith", "Computer Science", interest(12L, "Cybersecurity")));
+        assertTrue(index.findByInterests(Collections.singletonList(10L), false).isEmpty());
+        assertEquals(Arrays.asList(1L, 2L), ids(index.findByInterests(Collections.singletonList(12L), false)));
+
+        index.remove(2L);
+        index.put(lecturer(4L, "Emily", "Davis", "Business", interest(12L, "Cybersecurity")));
+        assertEquals(Arrays.asList(1L, 4L), ids(index.findByInterests(Collections.singletonList(12L), false)));
+        assertTrue(index.search("sarah").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos in fuzzy mode only")
+    void search_fuzzy_toleratesTypos() {
+        assertTrue(index.search("Artifical Inteligence").isEmpty());
+        assertEquals(Collections.singletonList(1L), ids(index.search("Artifical Inteligence", true)));
+        assertEquals(Collections.singletonList(2L), ids(index.search("Cybersecurty", true)));
+        assertEquals(Collections.singletonList(3L), ids(index.search("Mechanicle", true)));
+        assertEquals(Collections.singletonList(1L), ids(index.search("Smyth", true)));
+        assertTrue(index.search("Cbyresceurity", true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match short tokens exactly even in fuzzy mode")
+    void search_fuzzyShortTokens_exactPrefixOnly() {
+        assertEquals(Collections.singletonList(1L), ids(index.search("smi", true)));
+        assertTrue(index.search("smy", true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop computing edit distance beyond the bound")
+    void editDistance_bounded() {
+        assertEquals(1, LecturerSearchIndex.editDistance("artifical", "artificial", 2));
+        assertEquals(2, LecturerSearchIndex.editDistance("kitten", "sittin", 2));
+        assertEquals(3, LecturerSearchIndex.editDistance("kitten", "sitting", 2));
+    }
+
+    @Test
+    @DisplayName("Should combine filters and count facets over the matches")
+    void facetedSearch_combinedFilters_countsFacets() {
+        FacetedSearchResultDTO all = index.facetedSearch(null, false, null, null, null);
+        assertEquals(Arrays.asList(1L, 2L, 3L), ids(all.getLecturers()));
+        assertEquals(Arrays.asList("Computer Science:2", "Mechanical Engineering:1"), facets(all.getDepartments()));
+        assertEquals(Arrays.asList("Computing:2", "Engineering:1"), facets(all.getCategories()));
+        assertEquals(4, all.getInterests().size());
+
+        FacetedSearchResultDTO filtered = index.facetedSearch("computer", false, "computer science", 100L, Arrays.asList(11L, 13L));
+        assertEquals(Collections.singletonList(2L), ids(filtered.getLecturers()));
+        assertEquals(Collections.singletonList("Computing:1"), facets(filtered.getCategories()));
+        assertEquals(Arrays.asList("Cybersecurity:1", "Data Science:1"), facets(filtered.getInterests()));
+
+        assertTrue(index.facetedSearch("smith", false, "Mechanical Engineering", null, null).getLecturers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return empty list for blank keyword")
+    void search_blankKeyword_returnsEmpty() {
+        assertTrue(index.search("  ").isEmpty());
+        assertTrue(index.search(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should discard a rebuild that raced a write")
+    void rebuild_afterConcurrentWrite_isDiscarded() {
+        long startedAt = index.generation();
+        index.invalidate();
+
+        assertFalse(index.rebuild(Collections.singletonList(lecturer(9L, "Stale", "Copy", "History")), startedAt));
+        assertFalse(index.isLoaded());
+        assertTrue(index.rebuild(Collections.singletonList(lecturer(9L, "Fresh", "Copy", "History")), index.generation()));
+        assertEquals(Collections.singletonList(9L), ids(index.search("fresh")));
+    }
+
+    static LecturerPublicDTO lecturer(Long id, String firstName, String lastName, String department,
+                                      ResearchInterestDTO... interests) {
+        LecturerPublicDTO dto = new LecturerPublicDTO(id, firstName, lastName, "Dr.", department, null, null);
+        dto.setResearchInterests(new HashSet<>(Arrays.asList(interests)));
+        return dto;
+    }
+
+    static ResearchInterestDTO interest(Long id, String name) {
+        return id == 13L
+            ? new ResearchInterestDTO(id, name, null, "Engineering", 101L)
+            : new ResearchInterestDTO(id, name, null, "Computing", 100L);
+    }
+
+    static List<String> facets(List<FacetCountDTO> facets) {
+        List<String> labels = new ArrayList<>();
+        for (FacetCountDTO facet : facets) {
+            labels.add(facet.getLabel() + ":" + facet.getCount());
+        }
+        return labels;
+    }
+
+    static List<Long> ids(List<LecturerPublicDTO> lecturers) {
+        List<Long> ids = new ArrayList<>();
+        for (LecturerPublicDTO lecturer : lecturers) {
+            ids.add(lecturer.getId());
+        }
+        return ids;
+    }
+}
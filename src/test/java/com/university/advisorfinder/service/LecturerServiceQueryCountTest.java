@@ -0,0 +1,193 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.dto.LecturerPublicDTO;
+import com.university.advisorfinder.dto.ResearchInterestDTO;
+import com.university.advisorfinder.model.Lecturer;
+import com.university.advisorfinder.model.ResearchInterest;
+import com.university.advisorfinder.repository.ResearchCategoryRepository;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import com.university.advisorfinder.test.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that every lecturer list endpoint is served by a single SQL statement,
+ * independent of how many lecturers and research interests are loaded.
+ */
+@BaseTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LecturerServiceQueryCountTest {
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private ResearchCategoryRepository researchCategoryRepository;
+
+    @Autowired
+    private ResearchInterestRepository researchInterestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ResearchService researchService;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("getAllLecturersPublic should issue a single statement")
+    void getAllLecturersPublic_singleStatement() {
+        assertFalse(lecturerService.getAllLecturersPublic().isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findLecturersByDepartment should issue a single statement")
+    void findLecturersByDepartment_singleStatement() {
+        assertFalse(lecturerService.findLecturersByDepartment("computer").isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findLecturersByCategory should issue a single statement")
+    void findLecturersByCategory_singleStatement() {
+        Long categoryId = researchCategoryRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        lecturerService.findLecturersByCategory(categoryId);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("filterLecturers should issue a single statement for combined filters")
+    void filterLecturers_combinedFilters_singleStatement() {
+        ResearchInterest interest = researchInterestRepository.findAll().get(0);
+        Long categoryId = researchCategoryRepository.findAll().get(0).getId();
+        statistics.clear();
+
+        lecturerService.filterLecturers("e", categoryId, Collections.singletonList(interest.getId()), "a");
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertFalse(lecturerService.filterLecturers(null, null, null, null).isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findLecturersByResearchInterests should be answered from the index without statements")
+    void findLecturersByResearchInterests_noStatementsOnceIndexed() {
+        List<Long> interestIds = researchInterestRepository.findAll().stream().map(ResearchInterest::getId).collect(Collectors.toList());
+        // The first lookup may load the index with one statement
+        statistics.clear();
+        assertFalse(lecturerService.findLecturersByResearchInterests(interestIds).isEmpty());
+        assertTrue(statistics.getPrepareStatementCount() <= 1);
+
+        statistics.clear();
+        lecturerService.findLecturersByResearchInterests(Collections.singletonList(interestIds.get(0)), true);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("getAllLecturersPublic should be served from cache until a lecturer is saved")
+    void getAllLecturersPublic_cachedUntilLecturerSaved() {
+        int initialSize = lecturerService.getAllLecturersPublic().size();
+        statistics.clear();
+        lecturerService.getAllLecturersPublic();
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Lecturer saved = lecturerService.saveLecturer(new Lecturer("Cache", "Probe", "cache.probe@university.edu"));
+        try {
+            assertEquals(initialSize + 1, lecturerService.getAllLecturersPublic().size());
+        } finally {
+            lecturerService.deleteLecturer(saved.getId());
+        }
+        assertEquals(initialSize, lecturerService.getAllLecturersPublic().size());
+    }
+
+    @Test
+    @DisplayName("Renaming a research interest should refresh the cached directory and its tag")
+    void getAllLecturersPublic_refreshedWhenInterestRenamed() {
+        ResearchInterestDTO original = lecturerService.getAllLecturersPublic().stream()
+            .flatMap(lecturer -> lecturer.getResearchInterests().stream())
+            .findFirst().orElseThrow(AssertionError::new);
+        String tag = dataVersion.lecturerDirectoryTag();
+        String renamed = original.getName() + " (renamed)";
+
+        ResearchInterest interest = researchInterestRepository.findById(original.getId()).orElseThrow(AssertionError::new);
+        interest.setName(renamed);
+        researchService.saveInterest(interest);
+        try {
+            assertTrue(interestNames(lecturerService.getAllLecturersPublic()).contains(renamed));
+            assertNotEquals(tag, dataVersion.lecturerDirectoryTag());
+        } finally {
+            interest.setName(original.getName());
+            researchService.saveInterest(interest);
+        }
+        assertFalse(interestNames(lecturerService.getAllLecturersPublic()).contains(renamed));
+    }
+
+    @Test
+    @DisplayName("Contact details should be served from cache on repeated views")
+    void getLecturerContact_cachedAfterFirstView() {
+        Long lecturerId = lecturerService.getAllLecturersPublic().get(0).getId();
+        statistics.clear();
+
+        assertTrue(lecturerService.getLecturerContact(lecturerId).isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertTrue(lecturerService.getLecturerContact(lecturerId).isPresent());
+        assertEquals(1, lecturerService.getLecturerContacts(Collections.singletonList(lecturerId)).size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("exportLecturersPublic should load each lecturer once")
+    void exportLecturersPublic_loadsEachLecturerOnce() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        lecturerService.exportLecturersPublic(out);
+
+        long lines = out.toString(StandardCharsets.UTF_8.name()).split("\n").length;
+        assertTrue(lines > 0);
+        assertEquals(lines, statistics.getEntityStatistics(Lecturer.class.getName()).getLoadCount());
+        // The id cursor plus one statement per chunk of lecturers
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static List<String> interestNames(List<LecturerPublicDTO> lecturers) {
+        return lecturers.stream()
+            .flatMap(lecturer -> lecturer.getResearchInterests().stream())
+            .map(ResearchInterestDTO::getName)
+            .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,7 @@
 package com.university.advisorfinder.service;
 
+import com.university.advisorfinder.config.PrimaryReadTemplate;
+import com.university.advisorfinder.dto.LecturerContactDTO;
 import com.university.advisorfinder.model.Lecturer;
 import com.university.advisorfinder.model.ResearchCategory;
 import com.university.advisorfinder.model.ResearchInterest;
@@ -9,8 +11,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,6 +25,12 @@ class LecturerServiceTest {
     @Mock
     private LecturerRepository lecturerRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PrimaryReadTemplate primaryReadTemplate;
+
     @InjectMocks
     private LecturerService lecturerService;
 
@@ -97,4 +107,34 @@ class LecturerServiceTest {
         assertTrue(result.isEmpty());
         verify(lecturerRepository).findByResearchInterests_NameIn(interestNames);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should load batch contacts from the primary with one query in request order")
+    void getLecturerContacts_returnsContactsInRequestOrder() {
+        // Arrange
+        when(primaryReadTemplate.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        LecturerContactDTO first = new LecturerContactDTO(1L, "John", "Smith", "john@university.edu", null, null, null, "Dr.", "CS");
+        LecturerContactDTO second = new LecturerContactDTO(2L, "Sarah", "Johnson", "sarah@university.edu", null, null, null, "Prof.", "CS");
+        when(lecturerRepository.findContactsByIdIn(any())).thenReturn(Arrays.asList(first, second));
+
+        // Act
+        List<LecturerContactDTO> contacts = lecturerService.getLecturerContacts(Arrays.asList(2L, 99L, 1L, 2L));
+
+        // Assert
+        assertEquals(Arrays.asList(second, first), contacts);
+        verify(lecturerRepository, times(1)).findContactsByIdIn(any());
+        verify(primaryReadTemplate).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should reject batch contact requests above the limit")
+    void getLecturerContacts_tooManyIds_throwsException() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= LecturerService.MAX_PAGE_SIZE + 1; id++) {
+            ids.add(id);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> lecturerService.getLecturerContacts(ids));
+        verify(lecturerRepository, never()).findContactsByIdIn(any());
+    }
+}
@@ -0,0 +1,128 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.dto.ResearchCategoryNodeDTO;
+import com.university.advisorfinder.model.ResearchCategory;
+import com.university.advisorfinder.model.ResearchInterest;
+import com.university.advisorfinder.repository.ResearchCategoryRepository;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
+import com.university.advisorfinder.test.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that taxonomy lookups are served from the Hibernate second-level and query caches
+ * once warm, and that writes are visible immediately afterwards.
+ */
+@BaseTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ResearchServiceCacheTest {
+
+    @Autowired
+    private ResearchService researchService;
+
+    @Autowired
+    private ResearchCategoryRepository researchCategoryRepository;
+
+    @Autowired
+    private ResearchInterestRepository researchInterestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Categories and interests by category should be memory-only after warmup")
+    void taxonomyLookups_noStatementsOnceWarm() {
+        Long categoryId = researchService.getAllCategories().get(0).getId();
+        researchService.getInterestsByCategory(categoryId);
+
+        statistics.clear();
+        assertFalse(researchService.getAllCategories().isEmpty());
+        assertFalse(researchService.getInterestsByCategory(categoryId).isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getQueryCacheHitCount() >= 2);
+    }
+
+    @Test
+    @DisplayName("Lazy category of an interest should load from the second-level cache")
+    void interestCategory_loadedFromCache() {
+        Long interestId = researchService.getAllInterests().get(0).getId();
+        transactionTemplate.executeWithoutResult(status ->
+            researchInterestRepository.findById(interestId).get().getCategory().getName());
+
+        statistics.clear();
+        String categoryName = transactionTemplate.execute(status ->
+            researchInterestRepository.findById(interestId).get().getCategory().getName());
+        assertNotNull(categoryName);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Saved interests should show up in cached queries and category collections")
+    void saveInterest_invalidatesCachedViews() {
+        ResearchCategory category = researchService.saveCategory(new ResearchCategory("Cache Probe", "Second-level cache test"));
+        try {
+            assertTrue(researchService.getInterestsByCategory(category.getId()).isEmpty());
+            assertEquals(0, interestCount(category.getId()));
+
+            researchService.saveInterest(new ResearchInterest("Cache Probing", "Probe interest", category));
+
+            List<ResearchInterest> interests = researchService.getInterestsByCategory(category.getId());
+            assertEquals(1, interests.size());
+            assertEquals(1, interestCount(category.getId()));
+            assertTrue(researchService.getResearchTree().stream()
+                .anyMatch(node -> node.getName().equals("Cache Probe") && node.getInterests().size() == 1));
+        } finally {
+            // Removing the category cascades to its interests
+            researchCategoryRepository.deleteById(category.getId());
+            cacheManager.getCache(CacheConfig.RESEARCH_TREE).clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Research tree should be built with one statement and then served from cache")
+    void getResearchTree_singleStatementThenCached() {
+        cacheManager.getCache(CacheConfig.RESEARCH_TREE).clear();
+        statistics.clear();
+
+        List<ResearchCategoryNodeDTO> tree = researchService.getResearchTree();
+        assertFalse(tree.isEmpty());
+        assertTrue(tree.stream().anyMatch(category -> category.getInterests().stream()
+            .anyMatch(interest -> interest.getLecturerCount() > 0)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertSame(tree, researchService.getResearchTree());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private int interestCount(Long categoryId) {
+        return transactionTemplate.execute(status ->
+            researchCategoryRepository.findById(categoryId).get().getResearchInterests().size());
+    }
+}
@@ -0,0 +1,73 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.config.PrimaryReadTemplate;
+import com.university.advisorfinder.dto.ResearchCategoryNodeDTO;
+import com.university.advisorfinder.dto.ResearchTreeRowDTO;
+import com.university.advisorfinder.repository.ResearchCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResearchServiceTest {
+
+    @Mock
+    private ResearchCategoryRepository categoryRepository;
+
+    @Mock
+    private PrimaryReadTemplate primaryReadTemplate;
+
+    @InjectMocks
+    private ResearchService researchService;
+
+    @BeforeEach
+    void setUp() {
+        when(primaryReadTemplate.execute(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("Should nest interests under their categories and keep empty categories")
+    void getResearchTree_groupsRowsByCategory() {
+        when(categoryRepository.findTreeRows()).thenReturn(Arrays.asList(
+            new ResearchTreeRowDTO(1L, "Business", null, 10L, "Finance", "Markets", 2L),
+            new ResearchTreeRowDTO(1L, "Business", null, 11L, "Marketing", null, 0L),
+            new ResearchTreeRowDTO(3L, "Empty", "No interests yet", null, null, null, 0L),
+            new ResearchTreeRowDTO(2L, "Engineering", null, 12L, "Robotics", null, 5L)
+        ));
+
+        List<ResearchCategoryNodeDTO> tree = researchService.getResearchTree();
+
+        assertEquals(3, tree.size());
+        assertEquals("Business", tree.get(0).getName());
+        assertEquals(2, tree.get(0).getInterests().size());
+        assertEquals(2L, tree.get(0).getInterests().get(0).getLecturerCount());
+        assertEquals("Marketing", tree.get(0).getInterests().get(1).getName());
+        assertTrue(tree.get(1).getInterests().isEmpty());
+        assertEquals(5L, tree.get(2).getInterests().get(0).getLecturerCount());
+        verify(categoryRepository, times(1)).findTreeRows();
+    }
+
+    @Test
+    @DisplayName("Should return an immutable tree")
+    void getResearchTree_isImmutable() {
+        when(categoryRepository.findTreeRows()).thenReturn(Arrays.asList(
+            new ResearchTreeRowDTO(1L, "Business", null, 10L, "Finance", null, 1L)
+        ));
+
+        List<ResearchCategoryNodeDTO> tree = researchService.getResearchTree();
+
+        assertThrows(UnsupportedOperationException.class, () -> tree.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> tree.get(0).getInterests().clear());
+    }
+}
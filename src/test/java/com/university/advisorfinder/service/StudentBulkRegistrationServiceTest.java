@@ -0,0 +1,177 @@
+package com.university.advisorfinder.service;
+
+import com.university.advisorfinder.config.CacheConfig;
+import com.university.advisorfinder.dto.BulkRegistrationReportDTO;
+import com.university.advisorfinder.dto.BulkRegistrationRowDTO;
+import com.university.advisorfinder.dto.StudentRegistrationDTO;
+import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validator;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StudentBulkRegistrationServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Spy
+    private SyncTaskExecutor passwordHashingExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache verificationCache;
+
+    @InjectMocks
+    private StudentBulkRegistrationService bulkRegistrationService;
+
+    /** Emails the mocked database rejects with a unique constraint violation on insert. */
+    private final Set<String> conflictingEmails = new HashSet<>();
+
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$hash");
+        when(studentService.newStudent(any(StudentRegistrationDTO.class), any())).thenAnswer(invocation -> {
+            StudentRegistrationDTO dto = invocation.getArgument(0);
+            Student student = new Student(dto.getFirstName(), dto.getLastName(), StudentService.normalizeEmail(dto.getEmail()));
+            student.setPassword(invocation.getArgument(1));
+            return student;
+        });
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            for (Student student : students) {
+                if (conflictingEmails.contains(student.getEmail())) {
+                    throw new DataIntegrityViolationException("Duplicate entry " + student.getEmail());
+                }
+            }
+            for (Student student : students) {
+                student.setId(nextId++);
+            }
+            return students;
+        });
+        when(cacheManager.getCache(CacheConfig.STUDENT_VERIFICATION)).thenReturn(verificationCache);
+    }
+
+    @Test
+    @DisplayName("Should insert the other rows of a batch when one row violates a constraint")
+    void registerStudents_constraintViolation_rejectsOnlyConflictingRow() {
+        // Arrange: the email is free when checked, but taken by a concurrent registration on insert
+        conflictingEmails.add("bob@example.com");
+
+        // Act
+        BulkRegistrationReportDTO report = bulkRegistrationService.registerStudents(Arrays.asList(
+            registration("Ann", "ann@example.com"),
+            registration("Bob", "bob@example.com"),
+            registration("Cat", "cat@example.com")));
+
+        // Assert
+        List<BulkRegistrationRowDTO> rows = report.getRows();
+        assertEquals(BulkRegistrationRowDTO.STATUS_CREATED, rows.get(0).getStatus());
+        assertEquals(BulkRegistrationRowDTO.STATUS_REJECTED, rows.get(1).getStatus());
+        assertEquals("Email or student ID already exists", rows.get(1).getError());
+        assertEquals(BulkRegistrationRowDTO.STATUS_CREATED, rows.get(2).getStatus());
+        assertNotNull(rows.get(0).getId());
+        assertNotNull(rows.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("Should fail the upload on database errors other than constraint violations")
+    void registerStudents_otherDatabaseError_propagates() {
+        when(studentRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> bulkRegistrationService.registerStudents(
+            Arrays.asList(registration("Ann", "ann@example.com"), registration("Bob", "bob@example.com"))));
+    }
+
+    @Test
+    @DisplayName("Should reject repeated emails within one upload, in any case")
+    void registerStudents_duplicateEmailInUpload_rejectsLaterRows() {
+        // Act
+        BulkRegistrationReportDTO report = bulkRegistrationService.registerStudents(Arrays.asList(
+            registration("Ann", "ann@example.com"),
+            registration("Ann", " ANN@example.com"),
+            registration("Bob", "bob@example.com")));
+
+        // Assert
+        List<BulkRegistrationRowDTO> rows = report.getRows();
+        assertEquals(BulkRegistrationRowDTO.STATUS_CREATED, rows.get(0).getStatus());
+        assertEquals("Duplicate email in upload", rows.get(1).getError());
+        assertEquals(BulkRegistrationRowDTO.STATUS_CREATED, rows.get(2).getStatus());
+        verify(passwordEncoder, times(2)).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject emails already registered before hashing their passwords")
+    void registerStudents_existingEmail_rejectedWithoutHashing() {
+        when(studentRepository.findExistingEmails(anyCollection())).thenReturn(Collections.singletonList("ann@example.com"));
+
+        BulkRegistrationReportDTO report = bulkRegistrationService.registerStudents(Arrays.asList(
+            registration("Ann", "Ann@Example.com"),
+            registration("Bob", "bob@example.com")));
+
+        assertEquals("Email already exists", report.getRows().get(0).getError());
+        assertEquals(BulkRegistrationRowDTO.STATUS_CREATED, report.getRows().get(1).getStatus());
+        verify(passwordEncoder, times(1)).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached verification of every created student only")
+    void registerStudents_evictsVerificationOfCreatedStudents() {
+        conflictingEmails.add("bob@example.com");
+
+        bulkRegistrationService.registerStudents(Arrays.asList(
+            registration("Ann", "Ann@Example.com"),
+            registration("Bob", "bob@example.com")));
+
+        verify(verificationCache).evict("ann@example.com");
+        verify(verificationCache, never()).evict("bob@example.com");
+    }
+
+    private static StudentRegistrationDTO registration(String firstName, String email) {
+        StudentRegistrationDTO dto = new StudentRegistrationDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName("Bulk");
+        dto.setEmail(email);
+        dto.setPassword("password123");
+        return dto;
+    }
+}
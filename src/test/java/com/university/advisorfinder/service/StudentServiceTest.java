@@ -1,13 +1,19 @@
 package com.university.advisorfinder.service;
 
 import com.university.advisorfinder.dto.StudentRegistrationDTO;
+import com.university.advisorfinder.model.ResearchInterest;
 import com.university.advisorfinder.model.Student;
+import com.university.advisorfinder.repository.ResearchInterestRepository;
 import com.university.advisorfinder.repository.StudentRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,6 +24,12 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private ResearchInterestRepository researchInterestRepository;
+
+    @Mock
+    private InterestResolver interestResolver;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -82,4 +94,127 @@ class StudentServiceTest {
         assertEquals("alice@example.com", result.getEmail());
         verify(studentRepository).save(any(Student.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should link resolved research interests on registration")
+    void registerStudent_withInterests_linksResearchInterests() {
+        // Arrange
+        StudentRegistrationDTO dto = new StudentRegistrationDTO();
+        dto.setFirstName("Bob");
+        dto.setLastName("Lee");
+        dto.setEmail("bob@example.com");
+        dto.setInterests("Machine Learning, Robotics");
+
+        ResearchInterest machineLearning = new ResearchInterest();
+        machineLearning.setId(1L);
+        when(interestResolver.resolve("Machine Learning, Robotics")).thenReturn(Collections.singleton(1L));
+        when(researchInterestRepository.getReferenceById(1L)).thenReturn(machineLearning);
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Student result = studentService.registerStudent(dto);
+
+        // Assert
+        assertEquals(Collections.singleton(machineLearning), result.getResearchInterests());
+    }
+
+    @Test
+    @DisplayName("Should migrate free-text interests in keyset batches")
+    void migrateInterestsBatch_linksInterestsAndReturnsLastId() {
+        // Arrange
+        Student student = new Student("Carol", "King", "carol@example.com");
+        student.setId(7L);
+        student.setInterests("Data Science");
+        ResearchInterest dataScience = new ResearchInterest();
+        dataScience.setId(3L);
+        when(studentRepository.findUnlinkedInterestsAfter(eq(0L), any(Pageable.class))).thenReturn(Collections.singletonList(student));
+        when(studentRepository.findUnlinkedInterestsAfter(eq(7L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(interestResolver.resolve("Data Science")).thenReturn(Collections.singleton(3L));
+        when(researchInterestRepository.getReferenceById(3L)).thenReturn(dataScience);
+
+        // Act & Assert
+        assertEquals(7L, studentService.migrateInterestsBatch(0L, 100));
+        assertEquals(-1L, studentService.migrateInterestsBatch(7L, 100));
+        assertEquals(Collections.singleton(dataScience), student.getResearchInterests());
+    }
+
+    @Test
+    @DisplayName("Should answer unknown emails from the email filter without a query")
+    void existsByEmail_filterLoaded_skipsQueryForUnknownEmails() {
+        // Arrange
+        when(studentRepository.streamAllEmails()).thenReturn(Stream.of("alice@example.com"));
+        when(studentRepository.existsByEmail("alice@example.com")).thenReturn(true);
+        studentService.initializeEmailFilter();
+
+        // Act & Assert
+        assertFalse(studentService.existsByEmail("nobody@example.com"));
+        assertTrue(studentService.existsByEmail("alice@example.com"));
+        verify(studentRepository, never()).existsByEmail("nobody@example.com");
+    }
+
+    @Test
+    @DisplayName("Should store a pre-computed password hash without hashing on the caller thread")
+    void registerStudent_withPasswordHash_savesGivenHash() {
+        // Arrange
+        StudentRegistrationDTO dto = new StudentRegistrationDTO();
+        dto.setFirstName("Dan");
+        dto.setLastName("Moore");
+        dto.setEmail("dan@example.com");
+        dto.setPassword("password123");
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Student result = studentService.registerStudent(dto, "$2a$10$precomputed");
+
+        // Assert
+        assertEquals("$2a$10$precomputed", result.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should verify every spelling of an email registered in mixed case")
+    void isVerifiedStudent_mixedCaseRegistration_verifiesEverySpelling() {
+        // Arrange: the repository compares emails exactly, like a case-sensitive collation
+        Set<String> storedEmails = new HashSet<>();
+        when(studentRepository.existsByEmail(anyString()))
+            .thenAnswer(invocation -> storedEmails.contains(invocation.<String>getArgument(0)));
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> {
+            Student student = invocation.getArgument(0);
+            storedEmails.add(student.getEmail());
+            return student;
+        });
+        StudentRegistrationDTO dto = new StudentRegistrationDTO();
+        dto.setFirstName("Jane");
+        dto.setLastName("Smith");
+        dto.setEmail(" Jane@Example.com");
+
+        // Act
+        Student result = studentService.registerStudent(dto);
+
+        // Assert
+        assertEquals("jane@example.com", result.getEmail());
+        assertTrue(studentService.isVerifiedStudent("Jane@Example.com"));
+        assertTrue(studentService.isVerifiedStudent("  JANE@example.COM "));
+        assertFalse(studentService.isVerifiedStudent("john@example.com"));
+        assertThrows(IllegalStateException.class, () -> studentService.registerStudent(dto));
+    }
+
+    @Test
+    @DisplayName("Should normalise stored emails unless the normalised email is taken")
+    void migrateEmailsBatch_normalisesFreeEmails() {
+        // Arrange
+        Student jane = new Student("Jane", "Smith", "Jane@Example.com");
+        jane.setId(4L);
+        Student john = new Student("John", "Doe", "John@Example.com");
+        john.setId(9L);
+        when(studentRepository.findUnnormalizedEmailsAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(jane, john));
+        when(studentRepository.findUnnormalizedEmailsAfter(eq(9L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(studentRepository.existsByEmail("jane@example.com")).thenReturn(false);
+        when(studentRepository.existsByEmail("john@example.com")).thenReturn(true);
+
+        // Act & Assert
+        assertEquals(9L, studentService.migrateEmailsBatch(0L, 100));
+        assertEquals(-1L, studentService.migrateEmailsBatch(9L, 100));
+        assertEquals("jane@example.com", jane.getEmail());
+        assertEquals("John@Example.com", john.getEmail());
+    }
+}